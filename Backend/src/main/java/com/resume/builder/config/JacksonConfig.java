@@ -0,0 +1,62 @@
+package com.resume.builder.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.resume.builder.document.Resume;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+
+import java.util.List;
+
+/**
+ * Jackson tuning for the large resume payloads.
+ * Spring Boot registers every Module bean with the shared ObjectMapper.
+ */
+@Configuration
+@Slf4j
+public class JacksonConfig {
+
+    /**
+     * Blackbird replaces reflective getter/setter calls with generated
+     * LambdaMetafactory accessors (the JDK 11+ successor of Afterburner).
+     */
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    /**
+     * Build and cache the Resume (de)serializers at startup so the first
+     * GET/PUT does not pay for introspection and accessor generation.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp(ApplicationReadyEvent event) {
+
+        ObjectMapper objectMapper = event.getApplicationContext().getBean(ObjectMapper.class);
+
+        Resume sample = Resume.builder()
+                .title("warm-up")
+                .template(new Resume.Template())
+                .profileInfo(new Resume.ProfileInfo())
+                .contactInfo(new Resume.ContactInfo())
+                .workExperience(List.of(new Resume.WorkExperience()))
+                .education(List.of(new Resume.Education()))
+                .skills(List.of(new Resume.Skill()))
+                .projects(List.of(new Resume.Project()))
+                .certifications(List.of(new Resume.Certification()))
+                .languages(List.of(new Resume.Language()))
+                .interests(List.of("warm-up"))
+                .build();
+
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(sample);
+            objectMapper.readValue(json, Resume.class);
+        } catch (Exception e) {
+            log.warn("Jackson warm-up failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.resume.builder.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-endpoint token-bucket limits (rate-limit.* in application.properties)
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // Use the right-most X-Forwarded-For entry (added by our own proxy) as
+    // client IP. Off by default: server.forward-headers-strategy=native
+    // already resolves the client IP from trusted proxies only.
+    private boolean trustForwardedFor = false;
+
+    // Buckets untouched for this long are removed
+    private long idleEvictionMs = 600_000;
+
+    // Hard cap on tracked buckets
+    private int maxBuckets = 100_000;
+
+    // Keyed by endpoint name: login, register, resend-verification, upload-images
+    private Map<String, Limit> endpoints = new HashMap<>();
+
+    @Data
+    public static class Limit {
+        private int capacity = 10;
+        private long periodSeconds = 60;
+    }
+}
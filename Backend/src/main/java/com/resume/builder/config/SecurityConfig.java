@@ -1,22 +1,31 @@
 package com.resume.builder.config;
 
+import com.resume.builder.document.User;
 import com.resume.builder.security.JwtAuthenticationEntryPoint;
 import com.resume.builder.security.JwtAuthenticationFilter;
+import com.resume.builder.security.RateLimitFilter;
+import com.resume.builder.util.AppConstants;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.*;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Configuration
 @EnableWebSecurity
@@ -25,10 +34,15 @@ public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
+    private final RateLimitFilter rateLimitFilter;
 
     @Value("${cors.allowed-origins:http://localhost:5173}")
     private String allowedOrigins;
 
+    // Comma-separated emails allowed to call /api/admin/** and /actuator/metrics
+    @Value("${app.admin.emails:}")
+    private String adminEmails;
+
     /**
      * Password encoder (BCrypt)
      */
@@ -60,11 +74,16 @@ public class SecurityConfig {
                         .requestMatchers(
                                 "/",
                                 "/health",
-                                "/actuator/**",
+                                "/actuator/health/**",
+                                "/actuator/info",
                                 "/swagger-ui/**",
                                 "/v3/api-docs/**",
                                 "/api/auth/**"
                         ).permitAll()
+                        // 🛡️ ADMIN ENDPOINTS (configured emails only)
+                        .requestMatchers(AppConstants.ADMIN + "/**").access(adminOnly())
+                        // 🛡️ METRICS (and any other actuator endpoint) are admin-only too
+                        .requestMatchers("/actuator/**").access(adminOnly())
                         // 🔐 EVERYTHING ELSE REQUIRES AUTH
                         .anyRequest().authenticated()
                 )
@@ -76,9 +95,28 @@ public class SecurityConfig {
         // ⚠️ JWT FILTER AFTER AUTH RULES
         http.addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
 
+        // Rate limiting runs right after JWT so the user id is known
+        http.addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);
+
         return http.build();
     }
 
+    /**
+     * Allows authenticated users whose email is listed in app.admin.emails
+     */
+    private AuthorizationManager<RequestAuthorizationContext> adminOnly() {
+
+        Set<String> admins = Arrays.stream(adminEmails.split(","))
+                .map(email -> email.trim().toLowerCase(Locale.ROOT))
+                .filter(email -> !email.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+
+        return (authentication, context) -> new AuthorizationDecision(
+                authentication.get().getPrincipal() instanceof User user
+                        && user.getEmail() != null
+                        && admins.contains(user.getEmail().toLowerCase(Locale.ROOT)));
+    }
+
     /**
      * CORS configuration
      */
@@ -96,6 +134,8 @@ public class SecurityConfig {
         );
 
         configuration.setAllowedHeaders(Arrays.asList("*"));
+        // Let the browser read conditional-request and throttling headers
+        configuration.setExposedHeaders(Arrays.asList("ETag", "Retry-After"));
         configuration.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source =
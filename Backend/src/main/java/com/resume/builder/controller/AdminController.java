@@ -0,0 +1,69 @@
+package com.resume.builder.controller;
+
+import com.resume.builder.document.User;
+import com.resume.builder.service.ResumeExportService;
+import com.resume.builder.util.AppConstants;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+/**
+ * Operator endpoints; access is restricted in SecurityConfig (app.admin.emails).
+ */
+@RestController
+@RequestMapping(AppConstants.ADMIN)
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Admin", description = "Operator APIs (backups)")
+public class AdminController {
+
+    private final ResumeExportService resumeExportService;
+
+    // Full backups outlive the default async timeout; applies to this request only
+    @Value("${resume.export.admin-timeout-ms:1800000}")
+    private long exportTimeoutMs;
+
+    @GetMapping(AppConstants.EXPORT)
+    @Operation(summary = "Export all resumes", description = "Stream every user's resumes as NDJSON or as a ZIP of JSON Resume files grouped by user, for backups")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export streamed"),
+            @ApiResponse(responseCode = "400", description = "Unsupported format"),
+            @ApiResponse(responseCode = "403", description = "Not an admin")
+    })
+    public WebAsyncTask<Void> exportAllResumes(
+            @RequestParam(defaultValue = "ndjson") String format,
+            Authentication authentication,
+            HttpServletResponse response) {
+
+        ResumeExportService.Format exportFormat = ResumeExportService.Format.parse(format);
+        String admin = ((User) authentication.getPrincipal()).getEmail();
+
+        // Headers now; the body is streamed from the async thread
+        response.setContentType(exportFormat.contentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment()
+                        .filename(exportFormat.filename("resumes-backup"))
+                        .build()
+                        .toString());
+
+        return new WebAsyncTask<>(exportTimeoutMs, () -> {
+            long count = resumeExportService.exportAll(exportFormat, response.getOutputStream());
+            log.info("Full resume export finished. Admin={}, Format={}, Resumes={}",
+                    admin, exportFormat, count);
+            return null;
+        });
+    }
+}
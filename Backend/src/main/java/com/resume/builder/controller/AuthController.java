@@ -3,6 +3,7 @@ package com.resume.builder.controller;
 import com.resume.builder.document.User;
 import com.resume.builder.dto.AuthResponse;
 import com.resume.builder.dto.LoginRequest;
+import com.resume.builder.dto.RefreshTokenRequest;
 import com.resume.builder.dto.RegisterRequest;
 import com.resume.builder.dto.UpdateProfileRequest;
 import com.resume.builder.service.AuthService;
@@ -121,6 +122,41 @@ public class AuthController {
         return ResponseEntity.ok(response);
     }
 
+    // =========================
+    // REFRESH ACCESS TOKEN
+    // =========================
+    @PostMapping(AppConstants.REFRESH)
+    @Operation(summary = "Refresh access token", description = "Exchange a refresh token for a new access token and a new refresh token")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "New token pair returned"),
+            @ApiResponse(responseCode = "401", description = "Invalid, expired or reused refresh token")
+    })
+    public ResponseEntity<?> refresh(
+            @Valid @RequestBody RefreshTokenRequest request) {
+
+        log.info("Refresh token API called");
+
+        return ResponseEntity.ok(authService.refresh(request));
+    }
+
+    // =========================
+    // LOGOUT
+    // =========================
+    @PostMapping(AppConstants.LOGOUT)
+    @Operation(summary = "Logout", description = "Revoke the refresh token and every access token of its session")
+    @ApiResponse(responseCode = "200", description = "Logged out successfully")
+    public ResponseEntity<?> logout(
+            @Valid @RequestBody RefreshTokenRequest request) {
+
+        log.info("Logout API called");
+
+        authService.logout(request);
+
+        return ResponseEntity.ok(
+                Map.of("message", "Logged out successfully")
+        );
+    }
+
     // =========================
     // JWT VALIDATION TEST
     // =========================
@@ -167,13 +203,11 @@ public class AuthController {
     @GetMapping(AppConstants.PROFILE)
     @Operation(summary = "Get user profile", description = "Retrieve current authenticated user's profile information")
     @ApiResponse(responseCode = "200", description = "Profile retrieved successfully")
-    public ResponseEntity<?> getProfile(Authentication authentication) {
-
-        // Principal = currently logged-in user (set by JWT filter)
-        User existingUser = (User) authentication.getPrincipal();
+    public ResponseEntity<?> getProfile() {
 
+        // Current user is resolved once per request by the JWT filter
         AuthResponse currentProfile =
-                authService.getProfile(existingUser);
+                authService.getProfile();
 
         return ResponseEntity.ok(currentProfile);
     }
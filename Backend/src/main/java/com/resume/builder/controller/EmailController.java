@@ -1,8 +1,14 @@
 package com.resume.builder.controller;
 
-import com.resume.builder.service.EmailService;
+import com.resume.builder.document.BulkEmail;
+import com.resume.builder.document.EmailJob;
+import com.resume.builder.document.User;
+import com.resume.builder.service.BulkEmailService;
+import com.resume.builder.service.EmailOutboxService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -10,8 +16,10 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.regex.Pattern;
 
 @RestController
 @RequestMapping("/api/email")
@@ -19,10 +27,17 @@ import java.util.Objects;
 @Slf4j
 public class EmailController {
 
-    private final EmailService emailService;
+    private final EmailOutboxService emailOutboxService;
+    private final BulkEmailService bulkEmailService;
+
+    private static final Pattern EMAIL_PATTERN =
+            Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+
+    @Value("${email.bulk.max-recipients:50}")
+    private int maxBulkRecipients;
 
     /**
-     * Send resume PDF via email
+     * Queue resume PDF for delivery via email
      */
     @PostMapping(
             value = "/send-resume",
@@ -48,8 +63,7 @@ public class EmailController {
         }
 
         try {
-            // ✅ Step 2: Extract PDF data
-            byte[] pdfBytes = pdfFile.getBytes();
+            // ✅ Step 2: Resolve file name (content is streamed, not copied)
             String filename = Objects.requireNonNullElse(
                     pdfFile.getOriginalFilename(),
                     "resume.pdf"
@@ -66,28 +80,124 @@ public class EmailController {
                             ? message
                             : "Please find my resume attached.";
 
-            // ✅ Step 4: Call service
-            emailService.sendEmailWithAttachment(
+            // ✅ Step 4: Queue (sent asynchronously by the outbox worker)
+            EmailJob job = emailOutboxService.enqueueWithAttachment(
                     recipientEmail,
                     emailSubject,
                     emailBody,
-                    pdfBytes,
+                    pdfFile,
                     filename
             );
 
-            // ✅ Step 5: Return success response
+            // ✅ Step 5: Return accepted response
             response.put("success", true);
+            response.put("jobId", job.getId());
             response.put(
                     "message",
-                    "Resume sent successfully to " + recipientEmail
+                    "Resume queued for delivery to " + recipientEmail
+            );
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+
+        } catch (Exception e) {
+            log.error("Error queueing resume email", e);
+            response.put("success", false);
+            response.put("message", "Failed to send resume email");
+            return ResponseEntity.internalServerError().body(response);
+        }
+    }
+
+    /**
+     * Queue the same resume PDF for many recipients (uploaded once)
+     */
+    @PostMapping(
+            value = "/send-resume/bulk",
+            consumes = MediaType.MULTIPART_FORM_DATA_VALUE
+    )
+    public ResponseEntity<Map<String, Object>> sendResumeToMany(
+            @RequestPart("recipientEmails") String recipientEmails,
+            @RequestPart(value = "subject", required = false) String subject,
+            @RequestPart(value = "message", required = false) String message,
+            @RequestPart("pdfFile") MultipartFile pdfFile,
+            Authentication authentication
+    ) {
+
+        Map<String, Object> response = new HashMap<>();
+        List<String> recipients = bulkEmailService.parseRecipients(recipientEmails);
+
+        // ✅ Step 1: Validate inputs
+        if (recipients.isEmpty() || pdfFile == null || pdfFile.isEmpty()) {
+            response.put("success", false);
+            response.put("message", "Missing required fields");
+            return ResponseEntity.badRequest().body(response);
+        }
+
+        if (recipients.size() > maxBulkRecipients) {
+            response.put("success", false);
+            response.put("message", "At most " + maxBulkRecipients + " recipients per request");
+            return ResponseEntity.badRequest().body(response);
+        }
+
+        List<String> invalid = recipients.stream()
+                .filter(email -> !EMAIL_PATTERN.matcher(email).matches())
+                .toList();
+        if (!invalid.isEmpty()) {
+            response.put("success", false);
+            response.put("message", "Invalid recipient emails");
+            response.put("invalidRecipients", invalid);
+            return ResponseEntity.badRequest().body(response);
+        }
+
+        try {
+            User user = (User) authentication.getPrincipal();
+
+            String filename = Objects.requireNonNullElse(
+                    pdfFile.getOriginalFilename(),
+                    "resume.pdf"
+            );
+
+            // ✅ Step 2: Store once, fan out one job per recipient
+            BulkEmail batch = bulkEmailService.enqueue(
+                    user.getId(),
+                    recipients,
+                    (subject != null && !subject.isBlank())
+                            ? subject
+                            : "Resume from ResumeBuilder",
+                    (message != null && !message.isBlank())
+                            ? message
+                            : "Please find my resume attached.",
+                    pdfFile,
+                    filename
             );
-            return ResponseEntity.ok(response);
+
+            // ✅ Step 3: Return job id to poll
+            response.put("success", true);
+            response.put("jobId", batch.getId());
+            response.put("recipients", recipients.size());
+            response.put("message", "Resume queued for " + recipients.size() + " recipients");
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
 
         } catch (Exception e) {
-            log.error("Error sending resume email", e);
+            log.error("Error queueing bulk resume email", e);
             response.put("success", false);
             response.put("message", "Failed to send resume email");
             return ResponseEntity.internalServerError().body(response);
         }
     }
+
+    /**
+     * Per-recipient status of a bulk send
+     */
+    @GetMapping("/bulk/{jobId}")
+    public ResponseEntity<?> getBulkStatus(
+            @PathVariable String jobId,
+            Authentication authentication
+    ) {
+
+        User user = (User) authentication.getPrincipal();
+
+        return bulkEmailService.getStatus(jobId, user.getId())
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(Map.of("message", "Bulk email not found")));
+    }
 }
@@ -9,7 +9,6 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
@@ -31,8 +30,7 @@ public class PaymentController {
             @ApiResponse(responseCode = "400", description = "Invalid plan type")
     })
     public ResponseEntity<?> createOrder(
-            @RequestBody Map<String, String> request,
-            Authentication authentication) throws Exception {
+            @RequestBody Map<String, String> request) throws Exception {
 
         String planType = request.get("planType");
 
@@ -43,10 +41,7 @@ public class PaymentController {
         }
 
         Payment payment =
-                paymentService.createOrder(
-                        authentication.getPrincipal(),
-                        planType
-                );
+                paymentService.createOrder(planType);
 
         return ResponseEntity.ok(
                 Map.of(
@@ -76,13 +71,10 @@ public class PaymentController {
     @GetMapping("/history")
     @Operation(summary = "Get payment history", description = "Retrieve all payments made by the authenticated user")
     @ApiResponse(responseCode = "200", description = "Payment history retrieved successfully")
-    public ResponseEntity<?> getPaymentHistory(
-            Authentication authentication) {
+    public ResponseEntity<?> getPaymentHistory() {
 
         return ResponseEntity.ok(
-                paymentService.getPaymentHistory(
-                        authentication.getPrincipal()
-                )
+                paymentService.getPaymentHistory()
         );
     }
 
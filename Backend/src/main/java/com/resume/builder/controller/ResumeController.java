@@ -2,25 +2,46 @@ package com.resume.builder.controller;
 
 import com.resume.builder.document.User;
 import com.resume.builder.dto.CreateResumeRequest;
+import com.resume.builder.dto.ResumeImportResult;
+import com.resume.builder.dto.ResumePage;
+import com.resume.builder.exception.PayloadTooLargeException;
 import com.resume.builder.document.Resume;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.resume.builder.service.FileUploadService;
+import com.resume.builder.service.ResumeAutosaveBuffer;
+import com.resume.builder.service.ResumeExportService;
+import com.resume.builder.service.ResumeHistoryService;
+import com.resume.builder.service.ResumeImportService;
+import com.resume.builder.service.ResumePatchService;
+import com.resume.builder.service.ResumePdfService;
+import com.resume.builder.service.ResumeSearchService;
 import com.resume.builder.service.ResumeService;
 import com.resume.builder.util.AppConstants;
+import com.resume.builder.util.ETags;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.server.ServletServerHttpRequest;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.util.List;
+import java.io.IOException;
 import java.util.Map;
 
 @RestController
@@ -32,6 +53,21 @@ public class ResumeController {
 
     private final ResumeService resumeService;
     private final FileUploadService fileUploadService;
+    private final ResumePdfService resumePdfService;
+    private final ResumePatchService resumePatchService;
+    private final ResumeAutosaveBuffer resumeAutosaveBuffer;
+    private final ResumeHistoryService resumeHistoryService;
+    private final ResumeSearchService resumeSearchService;
+    private final ResumeExportService resumeExportService;
+    private final ResumeImportService resumeImportService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${resume.autosave.max-request-bytes:1048576}")
+    private int autosaveMaxRequestBytes;
+
+    // Async timeout of the export request only
+    @Value("${resume.export.timeout-ms:300000}")
+    private long exportTimeoutMs;
     @PostMapping
     @Operation(summary = "Create new resume", description = "Create a new resume for the authenticated user")
     @ApiResponses(value = {
@@ -52,18 +88,98 @@ public class ResumeController {
 
 
     @GetMapping
-    @Operation(summary = "Get all user resumes", description = "Retrieve all resumes created by the authenticated user")
-    @ApiResponse(responseCode = "200", description = "Resumes retrieved successfully")
-    public ResponseEntity<?> getUserResumes(Authentication authentication) {
+    @Operation(summary = "Get user resumes", description = "Page through resume summaries of the authenticated user, newest first")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Resumes retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
+    public ResponseEntity<?> getUserResumes(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit,
+            Authentication authentication) {
 
         // Extract logged-in user
         User existingUser = (User) authentication.getPrincipal();
 
         // Call service
-        List<Resume> resumes =
-                resumeService.getUserResumes(existingUser);
+        ResumePage page =
+                resumeService.getUserResumes(existingUser, cursor, limit);
+
+        return ResponseEntity.ok(page);
+    }
+
+
+    @GetMapping(AppConstants.SEARCH)
+    @Operation(summary = "Search resumes", description = "Full-text search over titles, summaries, experience, projects, skills and certifications of the user's resumes")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Ranked resume summaries"),
+            @ApiResponse(responseCode = "400", description = "Empty or too long query")
+    })
+    public ResponseEntity<?> searchResumes(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "20") int limit,
+            Authentication authentication) {
+
+        // Extract logged-in user
+        User existingUser = (User) authentication.getPrincipal();
+
+        return ResponseEntity.ok(
+                resumeSearchService.search(existingUser.getId(), query, limit));
+    }
+
+
+    @GetMapping(AppConstants.EXPORT)
+    @Operation(summary = "Export resumes", description = "Stream all resumes of the user as NDJSON (one resume per line) or as a ZIP of JSON Resume files")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export streamed"),
+            @ApiResponse(responseCode = "400", description = "Unsupported format")
+    })
+    public WebAsyncTask<Void> exportResumes(
+            @RequestParam(defaultValue = "ndjson") String format,
+            Authentication authentication,
+            HttpServletResponse response) {
+
+        // Extract logged-in user
+        User existingUser = (User) authentication.getPrincipal();
+
+        ResumeExportService.Format exportFormat = ResumeExportService.Format.parse(format);
+
+        response.setContentType(exportFormat.contentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment()
+                        .filename(exportFormat.filename("resumes"))
+                        .build()
+                        .toString());
+
+        // Written after the handler returns; no Content-Length → chunked
+        return new WebAsyncTask<>(exportTimeoutMs, () -> {
+            resumeExportService.exportUser(existingUser.getId(), exportFormat, response.getOutputStream());
+            return null;
+        });
+    }
+
 
-        return ResponseEntity.ok(resumes);
+    @PostMapping(
+            value = AppConstants.IMPORT,
+            consumes = {MediaType.APPLICATION_JSON_VALUE, ResumeExportService.NDJSON}
+    )
+    @Operation(summary = "Import resumes", description = "Import a JSON array or NDJSON stream of JSON Resume documents (or exported resumes); invalid records are reported and skipped")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import finished; see imported/failed counts and errors"),
+            @ApiResponse(responseCode = "429", description = "Too many imports")
+    })
+    public ResponseEntity<?> importResumes(
+            HttpServletRequest request,
+            Authentication authentication) throws IOException {
+
+        // Extract logged-in user
+        User existingUser = (User) authentication.getPrincipal();
+
+        // Body is parsed while it is uploaded, never buffered whole
+        ResumeImportResult result =
+                resumeImportService.importResumes(existingUser.getId(), request.getInputStream());
+
+        return ResponseEntity.ok(result);
     }
 
 
@@ -75,15 +191,30 @@ public class ResumeController {
     })
     public ResponseEntity<?> getResumeById(
             @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
             Authentication authentication) {
 
         // Extract logged-in user
         User existingUser = (User) authentication.getPrincipal();
 
+        // Unchanged since the client's copy → 304 after a version-only lookup
+        if (ifNoneMatch != null) {
+            String currentTag = resumeService.getVersion(id, existingUser)
+                    .map(ETags::ofVersion)
+                    .orElse(null);
+            if (currentTag != null && ETags.matches(ifNoneMatch, currentTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(currentTag)
+                        .build();
+            }
+        }
+
         Resume existingResume =
                 resumeService.getResumeById(id, existingUser);
 
-        return ResponseEntity.ok(existingResume);
+        return ResponseEntity.ok()
+                .eTag(ETags.ofVersion(existingResume.getVersion()))
+                .body(existingResume);
     }
 
 
@@ -91,20 +222,190 @@ public class ResumeController {
     @Operation(summary = "Update resume", description = "Update an existing resume with new data")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Resume updated successfully"),
-            @ApiResponse(responseCode = "404", description = "Resume not found")
+            @ApiResponse(responseCode = "404", description = "Resume not found"),
+            @ApiResponse(responseCode = "412", description = "If-Match does not match the current version")
     })
     public ResponseEntity<?> updateResume(
             @PathVariable String id,
             @RequestBody Resume updatedData,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             Authentication authentication) {
 
         // Extract logged-in user
         User existingUser = (User) authentication.getPrincipal();
 
         Resume updatedResume =
-                resumeService.updateResume(id, updatedData, existingUser);
+                resumeService.updateResume(id, updatedData, existingUser, ETags.parseVersion(ifMatch));
+
+        return ResponseEntity.ok()
+                .eTag(ETags.ofVersion(updatedResume.getVersion()))
+                .body(updatedResume);
+    }
+
+
+    @PatchMapping(
+            value = AppConstants.ID,
+            consumes = {
+                    ResumePatchService.MERGE_PATCH,
+                    ResumePatchService.JSON_PATCH,
+                    MediaType.APPLICATION_JSON_VALUE
+            }
+    )
+    @Operation(summary = "Partially update resume", description = "Apply a JSON Merge Patch (object) or JSON Patch (array of operations) without resending the whole resume")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Resume updated"),
+            @ApiResponse(responseCode = "400", description = "Invalid patch"),
+            @ApiResponse(responseCode = "404", description = "Resume not found"),
+            @ApiResponse(responseCode = "409", description = "A JSON Patch test operation failed"),
+            @ApiResponse(responseCode = "412", description = "If-Match does not match the current version")
+    })
+    public ResponseEntity<Void> patchResume(
+            @PathVariable String id,
+            @RequestBody JsonNode patch,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+
+        // JSON Patch by media type, or an array sent as plain JSON
+        boolean jsonPatch = contentType.startsWith(ResumePatchService.JSON_PATCH)
+                || patch.isArray();
+
+        Long version = resumePatchService.patch(
+                id, patch, jsonPatch, ETags.parseVersion(ifMatch));
+
+        ResponseEntity.HeadersBuilder<?> response = ResponseEntity.noContent();
+        if (version != null) {
+            response.eTag(ETags.ofVersion(version));
+        }
+        return response.build();
+    }
+
+
+    @PutMapping(AppConstants.AUTOSAVE)
+    @Operation(summary = "Autosave resume", description = "Buffer the editor state; rapid autosaves are coalesced and written in the background within a few seconds")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Autosave accepted"),
+            @ApiResponse(responseCode = "404", description = "Resume not found"),
+            @ApiResponse(responseCode = "413", description = "Editor state larger than the autosave limit"),
+            @ApiResponse(responseCode = "503", description = "Autosave buffer full; retry after the Retry-After delay")
+    })
+    public ResponseEntity<?> autosaveResume(
+            @PathVariable String id,
+            HttpServletRequest request,
+            Authentication authentication) throws IOException {
+
+        // Extract logged-in user
+        User existingUser = (User) authentication.getPrincipal();
+
+        // Reject oversized bodies before reading them (Content-Length is -1 when chunked)
+        if (request.getContentLengthLong() > autosaveMaxRequestBytes) {
+            throw new PayloadTooLargeException(
+                    "Autosave body exceeds " + autosaveMaxRequestBytes + " bytes");
+        }
+
+        // Read at most one byte past the limit, so chunked bodies are bounded too
+        byte[] body = request.getInputStream().readNBytes(autosaveMaxRequestBytes + 1);
+        if (body.length > autosaveMaxRequestBytes) {
+            throw new PayloadTooLargeException(
+                    "Autosave body exceeds " + autosaveMaxRequestBytes + " bytes");
+        }
 
-        return ResponseEntity.ok(updatedResume);
+        Resume draft;
+        try {
+            draft = objectMapper.readValue(body, Resume.class);
+        } catch (IOException e) {
+            throw new HttpMessageNotReadableException(
+                    "Invalid resume JSON", e, new ServletServerHttpRequest(request));
+        }
+
+        // Real body size counts against the buffer
+        resumeAutosaveBuffer.accept(id, existingUser.getId(), draft, body.length);
+
+        return ResponseEntity
+                .status(HttpStatus.ACCEPTED)
+                .body(Map.of("message", "Autosave accepted"));
+    }
+
+
+    @GetMapping(AppConstants.VERSIONS)
+    @Operation(summary = "List resume versions", description = "Page through saved revisions of a resume, newest first")
+    @ApiResponse(responseCode = "200", description = "Revisions retrieved successfully")
+    public ResponseEntity<?> listVersions(
+            @PathVariable String id,
+            @RequestParam(required = false) Long before,
+            @RequestParam(defaultValue = "20") int limit,
+            Authentication authentication) {
+
+        // Extract logged-in user
+        User existingUser = (User) authentication.getPrincipal();
+
+        return ResponseEntity.ok(
+                resumeHistoryService.listRevisions(id, existingUser.getId(), before, limit));
+    }
+
+
+    @GetMapping(AppConstants.VERSION)
+    @Operation(summary = "Get resume version", description = "Resume content as it was at a revision")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Revision content retrieved"),
+            @ApiResponse(responseCode = "404", description = "Revision not found")
+    })
+    public ResponseEntity<?> getVersion(
+            @PathVariable String id,
+            @PathVariable long revision,
+            Authentication authentication) {
+
+        // Extract logged-in user
+        User existingUser = (User) authentication.getPrincipal();
+
+        return ResponseEntity.ok()
+                .eTag(ETags.ofVersion(revision))
+                .body(resumeHistoryService.getContent(id, existingUser.getId(), revision));
+    }
+
+
+    @GetMapping(AppConstants.VERSION_DIFF)
+    @Operation(summary = "Diff resume versions", description = "JSON Patch from revision 'from' (default: current resume) to the given revision")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Diff computed"),
+            @ApiResponse(responseCode = "404", description = "Resume or revision not found")
+    })
+    public ResponseEntity<?> diffVersion(
+            @PathVariable String id,
+            @PathVariable long revision,
+            @RequestParam(required = false) Long from,
+            Authentication authentication) {
+
+        // Extract logged-in user
+        User existingUser = (User) authentication.getPrincipal();
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(ResumePatchService.JSON_PATCH))
+                .body(resumeHistoryService.diff(id, existingUser.getId(), revision, from));
+    }
+
+
+    @PostMapping(AppConstants.VERSION_RESTORE)
+    @Operation(summary = "Restore resume version", description = "Save the content of an earlier revision as the new current version")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Revision restored"),
+            @ApiResponse(responseCode = "404", description = "Resume or revision not found"),
+            @ApiResponse(responseCode = "412", description = "If-Match does not match the current version")
+    })
+    public ResponseEntity<?> restoreVersion(
+            @PathVariable String id,
+            @PathVariable long revision,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            Authentication authentication) {
+
+        // Extract logged-in user
+        User existingUser = (User) authentication.getPrincipal();
+
+        Resume restoredResume =
+                resumeService.restoreRevision(id, revision, existingUser, ETags.parseVersion(ifMatch));
+
+        return ResponseEntity.ok()
+                .eTag(ETags.ofVersion(restoredResume.getVersion()))
+                .body(restoredResume);
     }
 
 
@@ -132,6 +433,40 @@ public class ResumeController {
     }
 
 
+    @GetMapping(value = AppConstants.PDF, produces = MediaType.APPLICATION_PDF_VALUE)
+    @Operation(summary = "Download resume PDF", description = "Render the resume to PDF on the server using its template theme")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "PDF rendered"),
+            @ApiResponse(responseCode = "304", description = "PDF unchanged since the ETag sent in If-None-Match"),
+            @ApiResponse(responseCode = "404", description = "Resume not found")
+    })
+    public ResponseEntity<byte[]> downloadResumePdf(
+            @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        // Step 1: Render (or reuse cached render)
+        ResumePdfService.RenderedPdf pdf = resumePdfService.getPdf(id);
+
+        // Step 2: Content hash doubles as ETag
+        String etag = ETags.of(pdf.hash());
+        if (ETags.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_PDF)
+                .eTag(etag)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.inline()
+                                .filename(pdf.filename())
+                                .build()
+                                .toString())
+                .body(pdf.content());
+    }
+
+
     @DeleteMapping(AppConstants.ID)
     @Operation(summary = "Delete resume", description = "Delete a resume permanently")
     @ApiResponses(value = {
@@ -139,14 +474,10 @@ public class ResumeController {
             @ApiResponse(responseCode = "404", description = "Resume not found")
     })
     public ResponseEntity<?> deleteResume(
-            @PathVariable String id,
-            Authentication authentication) {
+            @PathVariable String id) {
 
-        // Step 1: Call service with resumeId + logged-in user
-        resumeService.deleteResume(
-                id,
-                authentication.getPrincipal()
-        );
+        // Step 1: Call service with resumeId (user comes from request context)
+        resumeService.deleteResume(id);
 
         // Step 2: Return success response
         return ResponseEntity.ok(
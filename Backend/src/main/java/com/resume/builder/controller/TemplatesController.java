@@ -7,7 +7,6 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
@@ -24,12 +23,12 @@ public class TemplatesController {
     @GetMapping
     @Operation(summary = "Get available templates", description = "Retrieve all available resume templates for the user")
     @ApiResponse(responseCode = "200", description = "Templates retrieved successfully")
-    public ResponseEntity<?> getTemplates(Authentication authentication) {
+    public ResponseEntity<?> getTemplates() {
 
         log.info("Get templates API called");
 
         Map<String, Object> response =
-                templatesService.getTemplates(authentication.getPrincipal());
+                templatesService.getTemplates();
 
         return ResponseEntity.ok(response);
     }
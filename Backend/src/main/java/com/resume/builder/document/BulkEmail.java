@@ -0,0 +1,37 @@
+package com.resume.builder.document;
+
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Document(collection = "email_batches")
+public class BulkEmail {
+
+    @Id
+    private String id;
+
+    private String userId;
+
+    private String subject;
+    private String attachmentName;
+
+    private int recipientCount;
+
+    // Final outcomes, counted by EmailOutboxWorker; sent jobs expire after
+    // 7 days but these counts stay with the batch
+    private int sentCount;
+    private int failedCount;
+
+    // Batches (and their status) are kept for 30 days
+    @CreatedDate
+    @Indexed(expireAfterSeconds = 2592000)
+    private LocalDateTime createdAt;
+}
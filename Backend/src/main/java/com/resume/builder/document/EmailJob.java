@@ -0,0 +1,64 @@
+package com.resume.builder.document;
+
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Document(collection = "email_outbox")
+@CompoundIndex(name = "status_next_attempt", def = "{'status': 1, 'nextAttemptAt': 1}")
+public class EmailJob {
+
+    public static final String PENDING = "pending";
+    public static final String SENDING = "sending";
+    public static final String SENT = "sent";
+    public static final String DEAD = "dead";
+
+    @Id
+    private String id;
+
+    // Set for jobs fanned out from a bulk send (see BulkEmail)
+    @Indexed(sparse = true)
+    private String batchId;
+
+    private String to;
+    private String subject;
+    private String body;
+    private boolean html;
+
+    // GridFS file id (see AttachmentStore); may be shared by several jobs
+    @Indexed(sparse = true)
+    private String attachmentId;
+    private String attachmentName;
+    private String attachmentContentType;
+
+    @Builder.Default
+    private String status = PENDING;
+
+    // Incremented on every claim, so a job that crashes its worker still counts
+    private int attempts;
+    private LocalDateTime nextAttemptAt;
+
+    // Lease held by the worker currently sending this job
+    private LocalDateTime lockedUntil;
+
+    // Identifies the claim; outcome updates only apply while it still matches
+    private String leaseToken;
+
+    private String lastError;
+
+    @CreatedDate
+    private LocalDateTime createdAt;
+
+    // Sent jobs are removed after 7 days
+    @Indexed(expireAfterSeconds = 604800)
+    private LocalDateTime sentAt;
+}
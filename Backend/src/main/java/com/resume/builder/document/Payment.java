@@ -5,6 +5,8 @@ import lombok.*;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
@@ -14,6 +16,8 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @Builder
 @Document(collection = "payments")
+// Payment history: owner, newest first
+@CompoundIndex(name = "user_created", def = "{'userId': 1, 'createdAt': -1}")
 public class Payment {
 
     @Id
@@ -22,6 +26,7 @@ public class Payment {
 
     private String userId;
 
+    @Indexed(unique = true, sparse = true)
     private String razorpayOrderId;
     private String razorpayPaymentId;
     private String razorpaySignature;
@@ -0,0 +1,38 @@
+package com.resume.builder.document;
+
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Document(collection = "refresh_tokens")
+public class RefreshToken {
+
+    // SHA-256 of the raw token (raw value is never stored)
+    @Id
+    private String id;
+
+    private String userId;
+
+    // All tokens rotated from the same login share a family (= session id)
+    @Indexed
+    private String familyId;
+
+    private boolean revoked;
+
+    private String replacedBy;
+
+    // TTL index removes the row once it has expired
+    @Indexed(expireAfterSeconds = 0)
+    private LocalDateTime expiresAt;
+
+    @CreatedDate
+    private LocalDateTime createdAt;
+}
@@ -1,9 +1,12 @@
 package com.resume.builder.document;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.*;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
@@ -14,6 +17,8 @@ import java.util.List;
 @NoArgsConstructor
 @Builder
 @Document(collection = "resumes")
+// Dashboard list: owner + keyset on (updatedAt, _id)
+@CompoundIndex(name = "user_updated", def = "{'userId': 1, 'updatedAt': -1, '_id': -1}")
 public class Resume {
 
     @Id
@@ -22,8 +27,15 @@ public class Resume {
 
     private String userId;
     private String title;
+
+    // Written by the thumbnail worker without a version bump, so it is not
+    // covered by the ETag (the version); full writes never set it
     private String thumbnailLink;
 
+    // Hash of the fields the server-rendered thumbnail shows
+    @JsonIgnore
+    private String thumbnailHash;
+
     private Template template;
     private ProfileInfo profileInfo;
     private ContactInfo contactInfo;
@@ -41,6 +53,10 @@ public class Resume {
     @LastModifiedDate
     private LocalDateTime updatedAt;
 
+    // Optimistic locking; also the resume ETag
+    @Version
+    private Long version;
+
     // =====================
     // NESTED CLASSES
     // =====================
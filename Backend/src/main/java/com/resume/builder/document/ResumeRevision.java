@@ -0,0 +1,56 @@
+package com.resume.builder.document;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * One entry of a resume's version history.
+ * A snapshot holds the full resume content; a delta holds the JSON Patch
+ * that turns its base revision into this one. Deltas chain back to a
+ * snapshot at most resume.history.snapshot-interval steps away.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Document(collection = "resume_revisions")
+@CompoundIndex(name = "resume_revision", def = "{'resumeId': 1, 'revision': -1}", unique = true)
+public class ResumeRevision {
+
+    public static final String SNAPSHOT = "snapshot";
+    public static final String DELTA = "delta";
+
+    @Id
+    @JsonIgnore
+    private String id;
+
+    @JsonIgnore
+    private String resumeId;
+
+    @JsonIgnore
+    private String userId;
+
+    // Resume.version this entry captures
+    private long revision;
+
+    private String type;
+
+    // Delta only: revision the patch applies to, and distance to the snapshot
+    @JsonIgnore
+    private Long baseRevision;
+    @JsonIgnore
+    private int depth;
+
+    // Snapshot: content JSON; delta: JSON Patch array
+    @JsonIgnore
+    private String data;
+
+    @CreatedDate
+    private LocalDateTime createdAt;
+}
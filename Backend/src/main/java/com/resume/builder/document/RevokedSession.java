@@ -0,0 +1,30 @@
+package com.resume.builder.document;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Document(collection = "revoked_sessions")
+public class RevokedSession {
+
+    // Session id (sid claim of access tokens)
+    @Id
+    private String id;
+
+    private String userId;
+
+    // Used by other instances to pick up new revocations
+    @Indexed
+    private LocalDateTime revokedAt;
+
+    // After this every access token of the session has expired anyway
+    @Indexed(expireAfterSeconds = 0)
+    private LocalDateTime expiresAt;
+}
@@ -4,6 +4,7 @@ import lombok.*;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
@@ -19,7 +20,11 @@ public class User {
     private String id;
 
     private String name;
+
+    // Unique index (created at startup) guards against duplicate sign-ups
+    @Indexed(unique = true)
     private String email;
+
     private String password;
 
     private String profileImageUrl;
@@ -28,7 +33,12 @@ public class User {
 
     private boolean emailVerified;
 
+    // Sparse: cleared once the email is verified
+    @Indexed(unique = true, sparse = true)
     private String verificationToken;
+
+    // Used by UnverifiedUserSweeper to find stale sign-ups
+    @Indexed(sparse = true)
     private LocalDateTime verificationExpires;
 
     @CreatedDate
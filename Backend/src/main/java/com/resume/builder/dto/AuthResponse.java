@@ -20,6 +20,7 @@ public class AuthResponse {
     private boolean emailVerified;
 
     private String token;
+    private String refreshToken;
 
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
@@ -0,0 +1,32 @@
+package com.resume.builder.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk import: counts plus the first failed records.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ResumeImportResult {
+
+    private int imported;
+    private int failed;
+
+    // Position of the record in the file (0-based) and why it was skipped
+    private List<RecordError> errors;
+
+    // True when more records failed than are listed in errors
+    private boolean errorsTruncated;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RecordError {
+        private int index;
+        private String message;
+    }
+}
@@ -0,0 +1,19 @@
+package com.resume.builder.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * One page of resume summaries; pass nextCursor back to get the next page
+ * (null on the last page).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ResumePage {
+
+    private List<ResumeSummary> resumes;
+    private String nextCursor;
+}
@@ -0,0 +1,55 @@
+package com.resume.builder.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.resume.builder.document.Resume;
+import lombok.*;
+import org.springframework.data.mongodb.core.mapping.TextScore;
+
+import java.time.LocalDateTime;
+
+/**
+ * Dashboard card for a resume: only what the list view renders.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ResumeSummary {
+
+    // Fields to load from MongoDB for a summary
+    public static final String[] FIELDS = {
+            "title", "thumbnailLink", "template",
+            "profileInfo.fullName", "profileInfo.designation",
+            "createdAt", "updatedAt"
+    };
+
+    @JsonProperty("_id")
+    private String id;
+
+    private String title;
+    private String thumbnailLink;
+
+    private Resume.Template template;
+    private Resume.ProfileInfo profileInfo;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    // Relevance of a search hit (search results only)
+    @TextScore
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Float score;
+
+    public static ResumeSummary from(Resume resume) {
+        return ResumeSummary.builder()
+                .id(resume.getId())
+                .title(resume.getTitle())
+                .thumbnailLink(resume.getThumbnailLink())
+                .template(resume.getTemplate())
+                .profileInfo(resume.getProfileInfo())
+                .createdAt(resume.getCreatedAt())
+                .updatedAt(resume.getUpdatedAt())
+                .build();
+    }
+}
@@ -1,6 +1,8 @@
 package com.resume.builder.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -56,6 +58,179 @@ public class GlobalExceptionHandler {
                 .body(response);
     }
 
+    /**
+     * Resource missing or owned by another user (404)
+     */
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<Map<String, Object>> handleResourceNotFoundException(
+            ResourceNotFoundException ex) {
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("message", "Resource not found");
+        response.put("error", ex.getMessage());
+        response.put("status", HttpStatus.NOT_FOUND.value());
+
+        return ResponseEntity
+                .status(HttpStatus.NOT_FOUND)
+                .body(response);
+    }
+
+    /**
+     * Request body over the endpoint's limit (413)
+     */
+    @ExceptionHandler(PayloadTooLargeException.class)
+    public ResponseEntity<Map<String, Object>> handlePayloadTooLargeException(
+            PayloadTooLargeException ex) {
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("message", "Request body too large");
+        response.put("error", ex.getMessage());
+        response.put("status", HttpStatus.PAYLOAD_TOO_LARGE.value());
+
+        return ResponseEntity
+                .status(HttpStatus.PAYLOAD_TOO_LARGE)
+                .body(response);
+    }
+
+    /**
+     * Invalid / expired / revoked token (401)
+     */
+    @ExceptionHandler(InvalidTokenException.class)
+    public ResponseEntity<Map<String, Object>> handleInvalidTokenException(
+            InvalidTokenException ex) {
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("message", "Invalid token");
+        response.put("error", ex.getMessage());
+        response.put("status", HttpStatus.UNAUTHORIZED.value());
+
+        return ResponseEntity
+                .status(HttpStatus.UNAUTHORIZED)
+                .body(response);
+    }
+
+    /**
+     * Malformed or unsupported resume patch (400)
+     */
+    @ExceptionHandler(InvalidPatchException.class)
+    public ResponseEntity<Map<String, Object>> handleInvalidPatchException(
+            InvalidPatchException ex) {
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("message", "Invalid patch");
+        response.put("error", ex.getMessage());
+        response.put("status", HttpStatus.BAD_REQUEST.value());
+
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(response);
+    }
+
+    /**
+     * Malformed or tampered pagination cursor (400)
+     */
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<Map<String, Object>> handleInvalidCursorException(
+            InvalidCursorException ex) {
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("message", "Invalid cursor");
+        response.put("error", ex.getMessage());
+        response.put("status", HttpStatus.BAD_REQUEST.value());
+
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(response);
+    }
+
+    /**
+     * Empty or oversized search query (400)
+     */
+    @ExceptionHandler(InvalidSearchQueryException.class)
+    public ResponseEntity<Map<String, Object>> handleInvalidSearchQueryException(
+            InvalidSearchQueryException ex) {
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("message", "Invalid search query");
+        response.put("error", ex.getMessage());
+        response.put("status", HttpStatus.BAD_REQUEST.value());
+
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(response);
+    }
+
+    /**
+     * Export/import format not supported (400)
+     */
+    @ExceptionHandler(UnsupportedFormatException.class)
+    public ResponseEntity<Map<String, Object>> handleUnsupportedFormatException(
+            UnsupportedFormatException ex) {
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("message", "Unsupported format");
+        response.put("error", ex.getMessage());
+        response.put("status", HttpStatus.BAD_REQUEST.value());
+
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(response);
+    }
+
+    /**
+     * JSON Patch "test" operation failed (409)
+     */
+    @ExceptionHandler(PatchConflictException.class)
+    public ResponseEntity<Map<String, Object>> handlePatchConflictException(
+            PatchConflictException ex) {
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("message", "Resume has changed");
+        response.put("error", ex.getMessage());
+        response.put("status", HttpStatus.CONFLICT.value());
+
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(response);
+    }
+
+    /**
+     * Stale If-Match or concurrent modification (412)
+     */
+    @ExceptionHandler({PreconditionFailedException.class, OptimisticLockingFailureException.class})
+    public ResponseEntity<Map<String, Object>> handlePreconditionFailedException(
+            RuntimeException ex) {
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("message", "Resume was modified by another request");
+        response.put("error", ex instanceof PreconditionFailedException
+                ? ex.getMessage()
+                : "Version mismatch");
+        response.put("status", HttpStatus.PRECONDITION_FAILED.value());
+
+        return ResponseEntity
+                .status(HttpStatus.PRECONDITION_FAILED)
+                .body(response);
+    }
+
+    /**
+     * Server temporarily overloaded (503)
+     */
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<Map<String, Object>> handleServiceUnavailableException(
+            ServiceUnavailableException ex) {
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("message", "Service temporarily unavailable");
+        response.put("error", ex.getMessage());
+        response.put("status", HttpStatus.SERVICE_UNAVAILABLE.value());
+
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response);
+    }
+
     /**
      * Generic Exception (500)
      */
@@ -0,0 +1,8 @@
+package com.resume.builder.exception;
+
+public class PatchConflictException extends RuntimeException {
+
+    public PatchConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.resume.builder.exception;
+
+public class UnsupportedFormatException extends RuntimeException {
+
+    public UnsupportedFormatException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.resume.builder.repository;
+
+import com.resume.builder.document.BulkEmail;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.util.Optional;
+
+public interface BulkEmailRepository extends MongoRepository<BulkEmail, String> {
+
+    Optional<BulkEmail> findByIdAndUserId(String id, String userId);
+}
@@ -0,0 +1,16 @@
+package com.resume.builder.repository;
+
+import com.resume.builder.document.EmailJob;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface EmailJobRepository extends MongoRepository<EmailJob, String> {
+
+    long countByStatus(String status);
+
+    List<EmailJob> findByBatchId(String batchId);
+
+    boolean existsByAttachmentIdAndStatusIn(String attachmentId, Collection<String> statuses);
+}
@@ -0,0 +1,7 @@
+package com.resume.builder.repository;
+
+import com.resume.builder.document.RefreshToken;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface RefreshTokenRepository extends MongoRepository<RefreshToken, String> {
+}
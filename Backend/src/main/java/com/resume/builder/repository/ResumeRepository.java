@@ -3,12 +3,10 @@ package com.resume.builder.repository;
 import com.resume.builder.document.Resume;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
-import java.util.List;
 import java.util.Optional;
 
 public interface ResumeRepository
         extends MongoRepository<Resume, String> {
-    List<Resume> findByUserIdOrderByUpdatedAtDesc(String userId);
     Optional<Resume> findByUserIdAndId(String userId, String id);
 
 }
@@ -0,0 +1,27 @@
+package com.resume.builder.repository;
+
+import com.resume.builder.document.ResumeRevision;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Range;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ResumeRevisionRepository extends MongoRepository<ResumeRevision, String> {
+
+    Optional<ResumeRevision> findFirstByResumeIdOrderByRevisionDesc(String resumeId);
+
+    Optional<ResumeRevision> findByResumeIdAndRevision(String resumeId, long revision);
+
+    Optional<ResumeRevision> findFirstByResumeIdAndTypeAndRevisionLessThanEqualOrderByRevisionDesc(
+            String resumeId, String type, long revision);
+
+    List<ResumeRevision> findByResumeIdAndRevisionBetweenOrderByRevisionAsc(
+            String resumeId, Range<Long> revisions);
+
+    List<ResumeRevision> findByResumeIdAndUserIdAndRevisionLessThanOrderByRevisionDesc(
+            String resumeId, String userId, long before, Pageable pageable);
+
+    void deleteByResumeId(String resumeId);
+}
@@ -0,0 +1,14 @@
+package com.resume.builder.repository;
+
+import com.resume.builder.document.RevokedSession;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RevokedSessionRepository extends MongoRepository<RevokedSession, String> {
+
+    List<RevokedSession> findByExpiresAtAfter(LocalDateTime now);
+
+    List<RevokedSession> findByRevokedAtAfter(LocalDateTime since);
+}
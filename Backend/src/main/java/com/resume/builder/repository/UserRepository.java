@@ -9,6 +9,5 @@ public interface UserRepository extends MongoRepository<User, String> {
 
     Optional<User> findByEmail(String email);
 
-    boolean existsByEmail(String email);
     Optional<User> findByVerificationToken(String verificationToken);
 }
@@ -0,0 +1,68 @@
+package com.resume.builder.security;
+
+import com.resume.builder.document.User;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+/**
+ * Request-scoped holder for the authenticated user.
+ * The JWT filter resolves the user once; services read it from here
+ * instead of fetching the same document again.
+ */
+@Component
+@RequestScope
+@RequiredArgsConstructor
+public class CurrentUserContext {
+
+    private final MeterRegistry meterRegistry;
+
+    private User user;
+
+    // MongoDB user reads made while serving this request
+    private int userReads;
+
+    public void setUser(User user) {
+        this.user = user;
+    }
+
+    public User getUser() {
+
+        if (user == null) {
+            Authentication authentication =
+                    SecurityContextHolder.getContext().getAuthentication();
+
+            if (authentication == null
+                    || !(authentication.getPrincipal() instanceof User principal)) {
+                throw new RuntimeException("User not authenticated");
+            }
+            user = principal;
+        }
+        return user;
+    }
+
+    public String getUserId() {
+        return getUser().getId();
+    }
+
+    public String getSubscriptionPlan() {
+        return getUser().getSubscriptionPlan();
+    }
+
+    public void recordUserRead() {
+        userReads++;
+    }
+
+    @PreDestroy
+    void recordReadsPerRequest() {
+        DistributionSummary.builder("user.reads.per.request")
+                .description("MongoDB user reads per authenticated request")
+                .register(meterRegistry)
+                .record(userReads);
+    }
+}
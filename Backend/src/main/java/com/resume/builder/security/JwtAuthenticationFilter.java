@@ -1,7 +1,7 @@
 package com.resume.builder.security;
 
-import com.resume.builder.repository.UserRepository;
 import com.resume.builder.util.JwtUtil;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.*;
 import jakarta.servlet.http.*;
 import lombok.RequiredArgsConstructor;
@@ -21,7 +21,8 @@ import java.util.ArrayList;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
-    private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
+    private final CurrentUserContext currentUserContext;
 
     @Override
     protected void doFilterInternal(
@@ -36,23 +37,26 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        // Skip other public endpoints
+        // Skip other public endpoints (/actuator/metrics needs the admin's token)
         String path = request.getRequestURI();
-        if (path.equals("/") || path.startsWith("/actuator")) {
+        if (path.equals("/")
+                || path.startsWith("/actuator/health")
+                || path.equals("/actuator/info")) {
             filterChain.doFilter(request, response);
             return;
         }
 
         String authHeader = request.getHeader("Authorization");
-        String token = null;
         String userId = null;
 
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            token = authHeader.substring(7);
+            String token = authHeader.substring(7);
             log.debug("JWT token found");
 
             try {
-                userId = jwtUtil.getUserIdFromToken(token);
+                // Single signature + expiry check per request
+                Claims claims = jwtUtil.verifyAndParse(token);
+                userId = claims.getSubject();
             } catch (Exception e) {
                 log.error("Invalid JWT token");
             }
@@ -61,22 +65,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         if (userId != null &&
                 SecurityContextHolder.getContext().getAuthentication() == null) {
 
-            if (jwtUtil.validateToken(token) && !jwtUtil.isTokenExpired(token)) {
+            // Served from memory; MongoDB is hit only on a cache miss
+            var user = userPrincipalCache.get(userId)
+                    .orElseThrow(() -> new RuntimeException("User not found"));
 
-                var user = userRepository.findById(userId)
-                        .orElseThrow(() -> new RuntimeException("User not found"));
+            // Services read the user from here for the rest of the request
+            currentUserContext.setUser(user);
 
-                UsernamePasswordAuthenticationToken authToken =
-                        new UsernamePasswordAuthenticationToken(
-                                user, null, new ArrayList<>());
+            UsernamePasswordAuthenticationToken authToken =
+                    new UsernamePasswordAuthenticationToken(
+                            user, null, new ArrayList<>());
 
-                authToken.setDetails(
-                        new WebAuthenticationDetailsSource()
-                                .buildDetails(request));
+            authToken.setDetails(
+                    new WebAuthenticationDetailsSource()
+                            .buildDetails(request));
 
-                SecurityContextHolder.getContext()
-                        .setAuthentication(authToken);
-            }
+            SecurityContextHolder.getContext()
+                    .setAuthentication(authToken);
         }
 
         filterChain.doFilter(request, response);
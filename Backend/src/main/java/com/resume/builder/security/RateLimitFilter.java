@@ -0,0 +1,219 @@
+package com.resume.builder.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resume.builder.config.RateLimitProperties;
+import com.resume.builder.document.User;
+import com.resume.builder.util.AppConstants;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.*;
+import jakarta.servlet.http.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admission control for expensive endpoints (BCrypt, SMTP, Cloudinary).
+ * Each request is checked against a bucket for the client IP and one for
+ * the email (auth endpoints) or user id (uploads).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    // Auth bodies are tiny; anything larger is not parsed for an email
+    private static final int MAX_BODY_BYTES = 8 * 1024;
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private enum KeySource { EMAIL, USER }
+
+    private record Rule(String name, String method, String pattern, KeySource keySource) {
+    }
+
+    private static final List<Rule> RULES = List.of(
+            new Rule("login", "POST", AppConstants.AUTH_BASE + AppConstants.LOGIN, KeySource.EMAIL),
+            new Rule("register", "POST", AppConstants.AUTH_BASE + AppConstants.REGISTER, KeySource.EMAIL),
+            new Rule("resend-verification", "POST", AppConstants.AUTH_BASE + AppConstants.RESEND_VERIFICATION, KeySource.EMAIL),
+            new Rule("upload-images", "PUT", AppConstants.RESUME + "/*/upload-images", KeySource.USER),
+            new Rule("send-resume-bulk", "POST", "/api/email/send-resume/bulk", KeySource.USER),
+            new Rule("export", "GET", AppConstants.RESUME + AppConstants.EXPORT, KeySource.USER),
+            new Rule("import", "POST", AppConstants.RESUME + AppConstants.IMPORT, KeySource.USER)
+    );
+
+    private final TokenBucketRateLimiter rateLimiter;
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        Rule rule = properties.isEnabled() ? findRule(request) : null;
+
+        if (rule == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        RateLimitProperties.Limit limit = properties.getEndpoints()
+                .getOrDefault(rule.name(), new RateLimitProperties.Limit());
+
+        // 1️⃣ Per client IP
+        long waitNanos = rateLimiter.tryConsume(
+                rule.name() + ":ip:" + clientIp(request), limit);
+
+        // 2️⃣ Per email / user id
+        HttpServletRequest chainRequest = request;
+        if (waitNanos == 0) {
+            String subject = null;
+
+            if (rule.keySource() == KeySource.EMAIL) {
+                CachedBodyRequest cached = new CachedBodyRequest(request);
+                chainRequest = cached;
+                subject = cached.email();
+            } else {
+                subject = currentUserId();
+            }
+
+            if (subject != null) {
+                waitNanos = rateLimiter.tryConsume(
+                        rule.name() + ":" + rule.keySource().name().toLowerCase(Locale.ROOT) + ":" + subject,
+                        limit);
+            }
+        }
+
+        if (waitNanos > 0) {
+            reject(response, rule, waitNanos);
+            return;
+        }
+
+        filterChain.doFilter(chainRequest, response);
+    }
+
+    private Rule findRule(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        for (Rule rule : RULES) {
+            if (rule.method().equalsIgnoreCase(request.getMethod())
+                    && PATH_MATCHER.match(rule.pattern(), path)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    private String clientIp(HttpServletRequest request) {
+        if (properties.isTrustForwardedFor()) {
+            // Left entries are client-supplied; only the last hop is ours
+            String forwardedFor = request.getHeader("X-Forwarded-For");
+            if (forwardedFor != null && !forwardedFor.isBlank()) {
+                String[] hops = forwardedFor.split(",");
+                return hops[hops.length - 1].trim();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    private String currentUserId() {
+        Authentication authentication =
+                SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof User user) {
+            return user.getId();
+        }
+        return null;
+    }
+
+    private void reject(HttpServletResponse response, Rule rule, long waitNanos)
+            throws IOException {
+
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1);
+
+        meterRegistry.counter("rate.limit.rejected", "endpoint", rule.name()).increment();
+        log.warn("Rate limit exceeded for {}", rule.name());
+
+        response.setStatus(429);
+        response.setContentType("application/json");
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+
+        MAPPER.writeValue(response.getOutputStream(), Map.of(
+                "message", "Too many requests, please try again later",
+                "status", 429
+        ));
+    }
+
+    /**
+     * Buffers a small JSON body so the email can be read here and the
+     * controller can still read the body afterwards.
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = request.getInputStream().readNBytes(MAX_BODY_BYTES + 1);
+        }
+
+        String email() {
+            if (body.length == 0 || body.length > MAX_BODY_BYTES) {
+                return null;
+            }
+            try {
+                JsonNode email = MAPPER.readTree(body).get("email");
+                return (email == null || !email.isTextual())
+                        ? null
+                        : email.asText().trim().toLowerCase(Locale.ROOT);
+            } catch (IOException e) {
+                return null;
+            }
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+
+            ServletInputStream original = super.getInputStream();
+            ByteArrayInputStream buffered = new ByteArrayInputStream(body);
+
+            // Replay the buffered bytes, then anything not yet consumed
+            return new ServletInputStream() {
+                @Override
+                public int read() throws IOException {
+                    int next = buffered.read();
+                    return next != -1 ? next : original.read();
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return buffered.available() == 0 && original.isFinished();
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+    }
+}
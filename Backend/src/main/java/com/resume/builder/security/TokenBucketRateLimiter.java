@@ -0,0 +1,154 @@
+package com.resume.builder.security;
+
+import com.resume.builder.config.RateLimitProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory token buckets keyed by an arbitrary string (IP, email, user id).
+ * Each bucket has its own lock, so unrelated clients never contend.
+ * The table is bounded: when full, the least recently used tenth is
+ * evicted, and new keys are refused (fail closed) if that is not possible.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TokenBucketRateLimiter {
+
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final ReentrantLock sweepLock = new ReentrantLock();
+
+    @PostConstruct
+    void init() {
+        Gauge.builder("rate.limit.buckets", buckets, ConcurrentHashMap::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Try to take one token.
+     *
+     * @return 0 if allowed, otherwise nanoseconds until a token is available
+     */
+    public long tryConsume(String key, RateLimitProperties.Limit limit) {
+
+        long now = System.nanoTime();
+
+        TokenBucket bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= properties.getMaxBuckets() && !evictOldest()) {
+                // Table still full → refuse untracked keys rather than let them through
+                log.warn("Rate limit bucket table full, rejecting new key");
+                return TimeUnit.SECONDS.toNanos(limit.getPeriodSeconds());
+            }
+            bucket = buckets.computeIfAbsent(key,
+                    k -> new TokenBucket(limit.getCapacity(),
+                            TimeUnit.SECONDS.toNanos(limit.getPeriodSeconds()), now));
+        }
+
+        return bucket.tryConsume(now);
+    }
+
+    /**
+     * Drop buckets nobody has used recently.
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.sweep-interval-ms:60000}")
+    public void evictIdle() {
+
+        if (!sweepLock.tryLock()) {
+            return;
+        }
+        try {
+            long idleNanos = TimeUnit.MILLISECONDS.toNanos(properties.getIdleEvictionMs());
+            long now = System.nanoTime();
+            int before = buckets.size();
+
+            buckets.values().removeIf(bucket -> now - bucket.lastAccess > idleNanos);
+
+            int removed = before - buckets.size();
+            if (removed > 0) {
+                log.debug("Evicted {} idle rate limit buckets", removed);
+            }
+        } finally {
+            sweepLock.unlock();
+        }
+    }
+
+    /**
+     * Remove the least recently used tenth of the buckets. One scan frees
+     * room for many new keys, so the cost is amortized under a key flood.
+     *
+     * @return true if there is room for a new bucket afterwards
+     */
+    private boolean evictOldest() {
+
+        if (!sweepLock.tryLock()) {
+            // Another thread is already making room
+            return buckets.size() < properties.getMaxBuckets();
+        }
+        try {
+            if (buckets.size() < properties.getMaxBuckets()) {
+                return true;
+            }
+
+            long[] lastAccess = buckets.values().stream()
+                    .mapToLong(bucket -> bucket.lastAccess)
+                    .toArray();
+            Arrays.sort(lastAccess);
+            long cutoff = lastAccess[Math.max(0, lastAccess.length / 10 - 1)];
+
+            buckets.values().removeIf(bucket -> bucket.lastAccess <= cutoff);
+            meterRegistry.counter("rate.limit.buckets.evicted").increment();
+            log.warn("Rate limit bucket table full, evicted least recently used buckets");
+
+            return buckets.size() < properties.getMaxBuckets();
+        } finally {
+            sweepLock.unlock();
+        }
+    }
+
+    static final class TokenBucket {
+
+        private final int capacity;
+        private final double tokensPerNano;
+
+        private double tokens;
+        private long lastRefill;
+        private volatile long lastAccess;
+
+        TokenBucket(int capacity, long periodNanos, long now) {
+            this.capacity = capacity;
+            this.tokensPerNano = (double) capacity / periodNanos;
+            this.tokens = capacity;
+            this.lastRefill = now;
+            this.lastAccess = now;
+        }
+
+        synchronized long tryConsume(long now) {
+
+            lastAccess = now;
+
+            // Refill based on time elapsed
+            tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+            lastRefill = now;
+
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return (long) Math.ceil((1 - tokens) / tokensPerNano);
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.resume.builder.security;
+
+import com.resume.builder.document.RevokedSession;
+import com.resume.builder.repository.RevokedSessionRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * In-memory set of revoked session ids, fronted by a Bloom filter so the
+ * common "not revoked" answer costs a few bit lookups and no map probe.
+ * Loaded from revoked_sessions at startup and kept in sync on a schedule.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TokenRevocationList {
+
+    private final RevokedSessionRepository revokedSessionRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${jwt.expiration}")
+    private long accessTokenTtlMs;
+
+    @Value("${jwt.revocation.expected-entries:100000}")
+    private int expectedEntries;
+
+    // sid → expiry (epoch millis)
+    private final ConcurrentHashMap<String, Long> revoked = new ConcurrentHashMap<>();
+
+    private volatile BloomFilter bloomFilter;
+    private volatile LocalDateTime lastSync;
+
+    @PostConstruct
+    void init() {
+
+        LocalDateTime now = LocalDateTime.now();
+        revokedSessionRepository.findByExpiresAtAfter(now)
+                .forEach(this::addLocal);
+        lastSync = now;
+
+        rebuildBloomFilter();
+
+        Gauge.builder("jwt.revoked.sessions", revoked, ConcurrentHashMap::size)
+                .register(meterRegistry);
+
+        log.info("Loaded {} revoked sessions", revoked.size());
+    }
+
+    /**
+     * Hot path: called for every authenticated request.
+     */
+    public boolean isRevoked(String sessionId) {
+
+        if (sessionId == null || !bloomFilter.mightContain(sessionId)) {
+            return false;
+        }
+
+        Long expiresAt = revoked.get(sessionId);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    /**
+     * Revoke every access token issued for this session.
+     */
+    public void revoke(String sessionId, String userId) {
+
+        LocalDateTime now = LocalDateTime.now();
+
+        RevokedSession session = RevokedSession.builder()
+                .id(sessionId)
+                .userId(userId)
+                .revokedAt(now)
+                .expiresAt(now.plus(Duration.ofMillis(accessTokenTtlMs)))
+                .build();
+
+        revokedSessionRepository.save(session);
+        addLocal(session);
+
+        log.info("Session {} revoked for user {}", sessionId, userId);
+    }
+
+    /**
+     * Pick up revocations made by other instances and drop expired ones.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval-ms:30000}")
+    public void sync() {
+
+        // Small overlap so rows written during the last sync are not missed
+        LocalDateTime since = lastSync.minusSeconds(5);
+        lastSync = LocalDateTime.now();
+
+        revokedSessionRepository.findByRevokedAtAfter(since)
+                .forEach(this::addLocal);
+
+        long now = System.currentTimeMillis();
+        if (revoked.values().removeIf(expiresAt -> expiresAt <= now)) {
+            rebuildBloomFilter();
+        }
+    }
+
+    private void addLocal(RevokedSession session) {
+
+        long expiresAt = session.getExpiresAt()
+                .atZone(ZoneId.systemDefault())
+                .toInstant()
+                .toEpochMilli();
+
+        // Map first, then filter: a reader never sees a filter hit without the entry
+        revoked.put(session.getId(), expiresAt);
+
+        BloomFilter current = bloomFilter;
+        if (current != null) {
+            current.put(session.getId());
+        }
+    }
+
+    private void rebuildBloomFilter() {
+
+        BloomFilter rebuilt = new BloomFilter(
+                Math.max(expectedEntries, revoked.size() * 2), 0.01);
+        revoked.keySet().forEach(rebuilt::put);
+
+        bloomFilter = rebuilt;
+
+        // Entries added while rebuilding
+        revoked.keySet().forEach(rebuilt::put);
+    }
+
+    /**
+     * Lock-free Bloom filter over a bit array of longs (double hashing).
+     */
+    static final class BloomFilter {
+
+        private final AtomicLongArray bits;
+        private final long bitCount;
+        private final int hashCount;
+
+        BloomFilter(int expectedEntries, double falsePositiveRate) {
+
+            long m = (long) Math.ceil(
+                    -expectedEntries * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+
+            this.bits = new AtomicLongArray((int) ((m + 63) / 64));
+            this.bitCount = bits.length() * 64L;
+            this.hashCount = Math.max(1,
+                    (int) Math.round((double) bitCount / expectedEntries * Math.log(2)));
+        }
+
+        void put(String value) {
+
+            long hash = hash64(value);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+
+            for (int i = 1; i <= hashCount; i++) {
+                long bit = Math.floorMod(h1 + (long) i * h2, bitCount);
+                int index = (int) (bit >>> 6);
+                long mask = 1L << bit;
+
+                long current;
+                do {
+                    current = bits.get(index);
+                    if ((current & mask) != 0) {
+                        break;
+                    }
+                } while (!bits.compareAndSet(index, current, current | mask));
+            }
+        }
+
+        boolean mightContain(String value) {
+
+            long hash = hash64(value);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+
+            for (int i = 1; i <= hashCount; i++) {
+                long bit = Math.floorMod(h1 + (long) i * h2, bitCount);
+                if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // FNV-1a 64-bit
+        private static long hash64(String value) {
+            long hash = 0xcbf29ce484222325L;
+            for (int i = 0; i < value.length(); i++) {
+                hash ^= value.charAt(i);
+                hash *= 0x100000001b3L;
+            }
+            return hash;
+        }
+    }
+}
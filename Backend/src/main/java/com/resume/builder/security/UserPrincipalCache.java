@@ -0,0 +1,107 @@
+package com.resume.builder.security;
+
+import com.resume.builder.document.User;
+import com.resume.builder.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * In-process cache of authenticated User principals (LRU + TTL).
+ * Services that modify a user must call invalidate(userId).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserPrincipalCache {
+
+    private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
+    private final CurrentUserContext currentUserContext;
+
+    @Value("${user.cache.max-size:10000}")
+    private int maxSize;
+
+    @Value("${user.cache.ttl-ms:300000}")
+    private long ttlMs;
+
+    private Map<String, CachedUser> users;
+
+    private Counter hits;
+    private Counter misses;
+    private Counter evictions;
+
+    private record CachedUser(User user, long expiresAt) {
+    }
+
+    @PostConstruct
+    void init() {
+        users = Collections.synchronizedMap(
+                new LinkedHashMap<>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, CachedUser> eldest) {
+                        boolean evict = size() > maxSize;
+                        if (evict) {
+                            evictions.increment();
+                        }
+                        return evict;
+                    }
+                });
+
+        hits = meterRegistry.counter("user.cache.requests", "result", "hit");
+        misses = meterRegistry.counter("user.cache.requests", "result", "miss");
+        evictions = meterRegistry.counter("user.cache.evictions");
+        Gauge.builder("user.cache.size", users, Map::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Return the user for this id, loading it from MongoDB on a miss.
+     */
+    public Optional<User> get(String userId) {
+
+        long now = System.currentTimeMillis();
+
+        CachedUser cached = users.get(userId);
+        if (cached != null) {
+            if (cached.expiresAt() > now) {
+                hits.increment();
+                return Optional.of(cached.user());
+            }
+            // Expired → drop and reload
+            users.remove(userId);
+            evictions.increment();
+        }
+
+        misses.increment();
+        if (RequestContextHolder.getRequestAttributes() != null) {
+            currentUserContext.recordUserRead();
+        }
+
+        Optional<User> loaded = userRepository.findById(userId);
+        loaded.ifPresent(user ->
+                users.put(userId, new CachedUser(user, now + ttlMs)));
+
+        return loaded;
+    }
+
+    /**
+     * Drop a user after it was changed in the database.
+     */
+    public void invalidate(String userId) {
+        if (userId != null && users.remove(userId) != null) {
+            log.debug("Principal cache invalidated for user {}", userId);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.resume.builder.service;
+
+import com.mongodb.client.gridfs.GridFSBucket;
+import com.mongodb.client.gridfs.GridFSBuckets;
+import com.mongodb.client.gridfs.model.GridFSUploadOptions;
+import jakarta.activation.DataSource;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Email attachments kept in GridFS and streamed in chunks, so neither the
+ * upload nor the SMTP send holds the whole file in the heap.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AttachmentStore {
+
+    private static final String BUCKET = "email_attachments";
+
+    private final MongoTemplate mongoTemplate;
+
+    private GridFSBucket bucket;
+
+    @PostConstruct
+    void init() {
+        bucket = GridFSBuckets.create(mongoTemplate.getDb(), BUCKET);
+    }
+
+    /**
+     * Stream an uploaded file (multipart temp file) into GridFS.
+     */
+    public String store(MultipartFile file, String filename) throws IOException {
+
+        try (InputStream in = file.getInputStream()) {
+            ObjectId id = bucket.uploadFromStream(
+                    filename,
+                    in,
+                    new GridFSUploadOptions()
+                            .metadata(new Document("contentType", file.getContentType()))
+            );
+            return id.toHexString();
+        }
+    }
+
+    /**
+     * DataSource that opens a fresh GridFS stream on every read
+     * (JavaMail reads attachments more than once).
+     */
+    public DataSource dataSource(String attachmentId, String filename, String contentType) {
+
+        ObjectId id = new ObjectId(attachmentId);
+
+        return new DataSource() {
+            @Override
+            public InputStream getInputStream() {
+                return bucket.openDownloadStream(id);
+            }
+
+            @Override
+            public OutputStream getOutputStream() throws IOException {
+                throw new IOException("Attachments are read-only");
+            }
+
+            @Override
+            public String getContentType() {
+                return contentType;
+            }
+
+            @Override
+            public String getName() {
+                return filename;
+            }
+        };
+    }
+
+    public void delete(String attachmentId) {
+        try {
+            bucket.delete(new ObjectId(attachmentId));
+        } catch (Exception e) {
+            // Already removed by another worker
+            log.debug("Attachment {} not deleted: {}", attachmentId, e.getMessage());
+        }
+    }
+}
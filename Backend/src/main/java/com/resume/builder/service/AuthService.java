@@ -3,17 +3,23 @@ package com.resume.builder.service;
 import com.resume.builder.document.User;
 import com.resume.builder.dto.AuthResponse;
 import com.resume.builder.dto.LoginRequest;
+import com.resume.builder.dto.RefreshTokenRequest;
 import com.resume.builder.dto.RegisterRequest;
 import com.resume.builder.dto.UpdateProfileRequest;
+import com.resume.builder.exception.InvalidTokenException;
 import com.resume.builder.exception.ResourceExistsException;
 import com.resume.builder.repository.UserRepository;
+import com.resume.builder.security.CurrentUserContext;
+import com.resume.builder.security.PasswordHasher;
+import com.resume.builder.security.UserPrincipalCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.UUID;
 import com.resume.builder.util.JwtUtil;
 
@@ -23,9 +29,13 @@ import com.resume.builder.util.JwtUtil;
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final EmailService emailService;
-    private final PasswordEncoder passwordEncoder;
+    private final EmailOutboxService emailOutboxService;
+    private final EmailTemplateEngine emailTemplateEngine;
+    private final PasswordHasher passwordHasher;
     private final JwtUtil jwtUtil;
+    private final UserPrincipalCache userPrincipalCache;
+    private final CurrentUserContext currentUserContext;
+    private final RefreshTokenService refreshTokenService;
 
     @Value("${app.base-url}")
     private String appBaseUrl;
@@ -37,17 +47,16 @@ public class AuthService {
 
         log.info("Registering user with email: {}", request.getEmail());
 
-        // Check if user already exists
-        if (userRepository.existsByEmail(request.getEmail())) {
-            log.warn("User already exists: {}", request.getEmail());
-            throw new ResourceExistsException("Email already registered");
-        }
-
         // Convert request → Mongo document
         User newUser = toDocument(request);
 
-        // Save user in DB
-        userRepository.save(newUser);
+        // Single insert; the unique email index rejects duplicates atomically
+        try {
+            userRepository.insert(newUser);
+        } catch (DuplicateKeyException e) {
+            log.warn("User already exists: {}", request.getEmail());
+            throw new ResourceExistsException("Email already registered");
+        }
         log.info("User saved with id: {}", newUser.getId());
 
         // Send verification email (non-blocking)
@@ -65,7 +74,7 @@ public class AuthService {
         return User.builder()
                 .name(request.getName())
                 .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(passwordHasher.encode(request.getPassword()))
                 .profileImageUrl(request.getProfileImageUrl())
                 .subscriptionPlan("Basic")
                 .emailVerified(false)
@@ -75,7 +84,7 @@ public class AuthService {
     }
 
     /**
-     * Send verification email
+     * Queue verification email (delivered by EmailOutboxWorker)
      */
     private void sendVerificationEmail(User user) {
 
@@ -90,7 +99,7 @@ public class AuthService {
                     verificationLink
             );
 
-            emailService.sendHtmlEmail(
+            emailOutboxService.enqueueHtml(
                     user.getEmail(),
                     "Verify your email – ResumeBuilder",
                     htmlContent
@@ -98,53 +107,19 @@ public class AuthService {
 
         } catch (Exception e) {
             // Email failure should NOT break registration
-            log.error("Failed to send verification email to {}", user.getEmail(), e);
+            log.error("Failed to queue verification email to {}", user.getEmail(), e);
         }
     }
 
     /**
-     * Build beautiful HTML email
+     * Build verification email from the precompiled template
      */
     private String buildVerificationEmail(String name, String link) {
 
-        return """
-        <div style="font-family:Arial,sans-serif;
-                    max-width:600px;
-                    margin:auto;
-                    padding:20px;
-                    border:1px solid #e5e7eb;
-                    border-radius:8px">
-
-            <h2 style="color:#4f46e5">Verify your email</h2>
-
-            <p>Hi <b>%s</b>,</p>
-
-            <p>
-                Thanks for registering with <b>ResumeBuilder</b>.
-                Please confirm your email to activate your account.
-            </p>
-
-            <a href="%s"
-               style="display:inline-block;
-                      margin:20px 0;
-                      padding:12px 20px;
-                      background:#4f46e5;
-                      color:#ffffff;
-                      text-decoration:none;
-                      border-radius:6px">
-               Verify Email
-            </a>
-
-            <p>If the button doesn’t work, copy this link:</p>
-            <p style="word-break:break-all">%s</p>
-
-            <p style="font-size:12px;color:gray">
-                This link expires in 24 hours.
-            </p>
-
-            <p>— ResumeBuilder Team</p>
-        </div>
-        """.formatted(name, link, link);
+        return emailTemplateEngine.render(
+                "verification",
+                Map.of("name", name, "link", link)
+        );
     }
 
     /**
@@ -188,6 +163,7 @@ public class AuthService {
         user.setVerificationExpires(null);
 
         userRepository.save(user);
+        userPrincipalCache.invalidate(user.getId());
 
         log.info("Email verified successfully for user: {}", user.getEmail());
     }
@@ -201,8 +177,8 @@ public class AuthService {
                         )
                 );
 
-        // Password check (BCrypt)
-        if (!passwordEncoder.matches(
+        // Password check (BCrypt, on the hashing pool)
+        if (!passwordHasher.matches(
                 request.getPassword(),
                 existingUser.getPassword()
         )) {
@@ -218,15 +194,48 @@ public class AuthService {
             );
         }
 
-        // JWT
-        String token = jwtUtil.generateToken(existingUser.getId());
+        // New session: refresh token family + short-lived access token
+        RefreshTokenService.IssuedToken refreshToken =
+                refreshTokenService.issue(existingUser.getId());
+        String token = jwtUtil.generateToken(
+                existingUser.getId(), refreshToken.familyId());
 
         AuthResponse response = toResponse(existingUser);
         response.setToken(token);
+        response.setRefreshToken(refreshToken.rawToken());
 
         return response;
     }
 
+    /**
+     * Rotate refresh token and issue a new access token
+     */
+    public AuthResponse refresh(RefreshTokenRequest request) {
+
+        RefreshTokenService.IssuedToken refreshToken =
+                refreshTokenService.rotate(request.getRefreshToken());
+
+        // Account deleted since login → end the session instead
+        if (!userRepository.existsById(refreshToken.userId())) {
+            refreshTokenService.revoke(refreshToken.rawToken());
+            throw new InvalidTokenException("Invalid or expired refresh token");
+        }
+
+        return AuthResponse.builder()
+                .id(refreshToken.userId())
+                .token(jwtUtil.generateToken(
+                        refreshToken.userId(), refreshToken.familyId()))
+                .refreshToken(refreshToken.rawToken())
+                .build();
+    }
+
+    /**
+     * Revoke the session of this refresh token
+     */
+    public void logout(RefreshTokenRequest request) {
+        refreshTokenService.revoke(request.getRefreshToken());
+    }
+
 
     public void resendVerification(String email) {
 
@@ -250,6 +259,7 @@ public class AuthService {
 
         // Step 5: Save updated user
         userRepository.save(user);
+        userPrincipalCache.invalidate(user.getId());
 
         // Step 6: Send verification email
         sendVerificationEmail(user);
@@ -265,6 +275,7 @@ public class AuthService {
                     log.error("User not found with ID: {}", existingUser.getId());
                     return new RuntimeException("User not found");
                 });
+        currentUserContext.recordUserRead();
 
         if (request.getName() != null && !request.getName().isBlank()) {
             user.setName(request.getName().trim());
@@ -277,20 +288,20 @@ public class AuthService {
         }
 
         User savedUser = userRepository.save(user);
+        userPrincipalCache.invalidate(savedUser.getId());
         log.info("User profile saved successfully");
         return toResponse(savedUser);
     }
-    public AuthResponse getProfile(User existingUser) {
+    public AuthResponse getProfile() {
+
+        // Resolved once by the JWT filter (cache is invalidated on every user update)
+        User currentUser = currentUserContext.getUser();
 
-        // Fetch fresh user data from database to ensure latest subscription plan
-        User freshUser = userRepository.findById(existingUser.getId())
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        
-        log.info("Fetching profile for user {} with subscription: {}", 
-                freshUser.getId(), freshUser.getSubscriptionPlan());
+        log.info("Fetching profile for user {} with subscription: {}",
+                currentUser.getId(), currentUser.getSubscriptionPlan());
 
         // Convert User entity → response DTO
-        return toResponse(freshUser);
+        return toResponse(currentUser);
     }
     
 
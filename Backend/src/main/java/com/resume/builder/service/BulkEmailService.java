@@ -0,0 +1,133 @@
+package com.resume.builder.service;
+
+import com.resume.builder.document.BulkEmail;
+import com.resume.builder.document.EmailJob;
+import com.resume.builder.repository.BulkEmailRepository;
+import com.resume.builder.repository.EmailJobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * "Send my resume to many recipients": the PDF is stored once and one
+ * outbox job per recipient references it. The outbox worker sends
+ * recipients of the same batch together over one SMTP connection.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BulkEmailService {
+
+    private final BulkEmailRepository bulkEmailRepository;
+    private final EmailJobRepository emailJobRepository;
+    private final AttachmentStore attachmentStore;
+
+    /**
+     * Split a comma / semicolon / newline separated list, trim, lowercase
+     * and de-duplicate (order preserved).
+     */
+    public List<String> parseRecipients(String raw) {
+
+        Set<String> recipients = new LinkedHashSet<>();
+        if (raw != null) {
+            for (String part : raw.split("[,;\\s]+")) {
+                if (!part.isBlank()) {
+                    recipients.add(part.trim().toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+        return new ArrayList<>(recipients);
+    }
+
+    public BulkEmail enqueue(
+            String userId,
+            List<String> recipients,
+            String subject,
+            String body,
+            MultipartFile attachment,
+            String filename
+    ) throws IOException {
+
+        // Step 1: Store the PDF once
+        String attachmentId = attachmentStore.store(attachment, filename);
+
+        // Step 2: Create the batch
+        BulkEmail batch = bulkEmailRepository.insert(BulkEmail.builder()
+                .userId(userId)
+                .subject(subject)
+                .attachmentName(filename)
+                .recipientCount(recipients.size())
+                .build());
+
+        // Step 3: One job per recipient, inserted in a single round trip
+        LocalDateTime now = LocalDateTime.now();
+        List<EmailJob> jobs = recipients.stream()
+                .map(recipient -> EmailJob.builder()
+                        .batchId(batch.getId())
+                        .to(recipient)
+                        .subject(subject)
+                        .body(body)
+                        .html(false)
+                        .attachmentId(attachmentId)
+                        .attachmentName(filename)
+                        .attachmentContentType(attachment.getContentType())
+                        .status(EmailJob.PENDING)
+                        .nextAttemptAt(now)
+                        .build())
+                .toList();
+
+        emailJobRepository.insert(jobs);
+
+        log.info("Bulk email {} queued for {} recipients", batch.getId(), recipients.size());
+        return batch;
+    }
+
+    /**
+     * Per-recipient delivery status of a batch owned by this user.
+     */
+    public Optional<Map<String, Object>> getStatus(String batchId, String userId) {
+
+        return bulkEmailRepository.findByIdAndUserId(batchId, userId)
+                .map(batch -> {
+                    List<EmailJob> jobs = emailJobRepository.findByBatchId(batchId);
+
+                    // Counts live on the batch: sent jobs expire after 7 days
+                    int sent = batch.getSentCount();
+                    int failed = batch.getFailedCount();
+                    int pending = Math.max(0, batch.getRecipientCount() - sent - failed);
+
+                    List<Map<String, Object>> recipients = new ArrayList<>(jobs.size());
+                    for (EmailJob job : jobs) {
+                        // "sending" is reported as pending
+                        String status = EmailJob.SENDING.equals(job.getStatus())
+                                ? EmailJob.PENDING
+                                : job.getStatus();
+
+                        Map<String, Object> recipient = new LinkedHashMap<>();
+                        recipient.put("email", job.getTo());
+                        recipient.put("status", status);
+                        recipient.put("attempts", job.getAttempts());
+                        if (job.getLastError() != null && !EmailJob.SENT.equals(status)) {
+                            recipient.put("lastError", job.getLastError());
+                        }
+                        recipients.add(recipient);
+                    }
+
+                    Map<String, Object> response = new LinkedHashMap<>();
+                    response.put("jobId", batch.getId());
+                    response.put("subject", batch.getSubject());
+                    response.put("total", batch.getRecipientCount());
+                    response.put("pending", pending);
+                    response.put("sent", sent);
+                    response.put("failed", failed);
+                    response.put("createdAt", batch.getCreatedAt());
+                    response.put("recipients", recipients);
+                    return response;
+                });
+    }
+}
@@ -0,0 +1,68 @@
+package com.resume.builder.service;
+
+import com.resume.builder.document.EmailJob;
+import com.resume.builder.repository.EmailJobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * Persists outgoing emails; EmailOutboxWorker delivers them asynchronously.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmailOutboxService {
+
+    private final EmailJobRepository emailJobRepository;
+    private final AttachmentStore attachmentStore;
+
+    public EmailJob enqueueHtml(String to, String subject, String htmlContent) {
+
+        return enqueue(EmailJob.builder()
+                .to(to)
+                .subject(subject)
+                .body(htmlContent)
+                .html(true)
+                .build());
+    }
+
+    /**
+     * Streams the file into the attachment store; the job only keeps its id.
+     */
+    public EmailJob enqueueWithAttachment(
+            String to,
+            String subject,
+            String body,
+            MultipartFile attachment,
+            String filename
+    ) throws IOException {
+
+        String attachmentId = attachmentStore.store(attachment, filename);
+
+        return enqueue(EmailJob.builder()
+                .to(to)
+                .subject(subject)
+                .body(body)
+                .html(false)
+                .attachmentId(attachmentId)
+                .attachmentName(filename)
+                .attachmentContentType(attachment.getContentType())
+                .build());
+    }
+
+    private EmailJob enqueue(EmailJob job) {
+
+        job.setStatus(EmailJob.PENDING);
+        job.setNextAttemptAt(LocalDateTime.now());
+
+        EmailJob saved = emailJobRepository.insert(job);
+        log.info("Email to {} queued as job {}", saved.getTo(), saved.getId());
+
+        return saved;
+    }
+}
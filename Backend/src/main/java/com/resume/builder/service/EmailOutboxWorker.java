@@ -0,0 +1,381 @@
+package com.resume.builder.service;
+
+import com.resume.builder.document.BulkEmail;
+import com.resume.builder.document.EmailJob;
+import com.resume.builder.repository.EmailJobRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains email_outbox with a bounded worker pool.
+ * Failed sends are retried with exponential backoff; after
+ * max-attempts the job is parked as "dead" for inspection.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EmailOutboxWorker {
+
+    private final MongoTemplate mongoTemplate;
+    private final EmailJobRepository emailJobRepository;
+    private final EmailService emailService;
+    private final AttachmentStore attachmentStore;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${email.outbox.workers:4}")
+    private int workers;
+
+    @Value("${email.outbox.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${email.outbox.max-attempts:6}")
+    private int maxAttempts;
+
+    @Value("${email.outbox.backoff-initial-ms:5000}")
+    private long backoffInitialMs;
+
+    @Value("${email.outbox.backoff-max-ms:3600000}")
+    private long backoffMaxMs;
+
+    @Value("${email.outbox.lease-ms:120000}")
+    private long leaseMs;
+
+    // Max bulk recipients sent over one connection
+    @Value("${email.outbox.send-batch-size:10}")
+    private int sendBatchSize;
+
+    private ThreadPoolExecutor executor;
+    private Timer sendTimer;
+    private final AtomicLong pendingJobs = new AtomicLong();
+
+    @PostConstruct
+    void init() {
+
+        AtomicInteger counter = new AtomicInteger();
+
+        executor = new ThreadPoolExecutor(
+                workers,
+                workers,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable,
+                            "email-worker-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+        );
+
+        // One sample per sendAll call (1..send-batch-size messages, one connection)
+        sendTimer = Timer.builder("email.outbox.send.batch.latency")
+                .description("Time to send one batch of outbox messages")
+                .register(meterRegistry);
+
+        Gauge.builder("email.outbox.pending", pendingJobs, AtomicLong::get)
+                .register(meterRegistry);
+        Gauge.builder("email.outbox.worker.queue", executor, e -> e.getQueue().size())
+                .register(meterRegistry);
+    }
+
+    /**
+     * Claim due jobs while the local pool has room.
+     */
+    @Scheduled(fixedDelayString = "${email.outbox.poll-interval-ms:1000}")
+    public void poll() {
+
+        while (executor.getQueue().remainingCapacity() > 0) {
+
+            EmailJob job = claimNext();
+            if (job == null) {
+                break;
+            }
+
+            try {
+                executor.execute(() -> deliver(job));
+            } catch (RejectedExecutionException e) {
+                // Lease expires and the job is picked up again
+                break;
+            }
+        }
+
+        pendingJobs.set(emailJobRepository.countByStatus(EmailJob.PENDING));
+    }
+
+    /**
+     * Atomically move one due job (or one with an expired lease) to "sending"
+     * under a new lease token. The claim counts as an attempt.
+     */
+    private EmailJob claimNext() {
+        return claim(new Criteria());
+    }
+
+    /**
+     * Claim one more due job of the same bulk batch.
+     */
+    private EmailJob claimNextInBatch(String batchId) {
+        return claim(Criteria.where("batchId").is(batchId));
+    }
+
+    private EmailJob claim(Criteria scope) {
+
+        LocalDateTime now = LocalDateTime.now();
+
+        Query due = Query.query(new Criteria().andOperator(
+                        scope,
+                        new Criteria().orOperator(
+                                Criteria.where("status").is(EmailJob.PENDING)
+                                        .and("nextAttemptAt").lte(now),
+                                Criteria.where("status").is(EmailJob.SENDING)
+                                        .and("lockedUntil").lt(now))))
+                .with(Sort.by("nextAttemptAt"));
+
+        return mongoTemplate.findAndModify(
+                due,
+                new Update()
+                        .set("status", EmailJob.SENDING)
+                        .set("lockedUntil", now.plus(Duration.ofMillis(leaseMs)))
+                        .set("leaseToken", UUID.randomUUID().toString())
+                        .inc("attempts", 1),
+                FindAndModifyOptions.options().returnNew(true),
+                EmailJob.class
+        );
+    }
+
+    /**
+     * Send a job; bulk jobs take along more recipients of the same
+     * batch and go out over a single SMTP connection.
+     */
+    private void deliver(EmailJob first) {
+
+        List<EmailJob> jobs = new ArrayList<>();
+        jobs.add(first);
+
+        if (first.getBatchId() != null) {
+            while (jobs.size() < sendBatchSize) {
+                EmailJob next = claimNextInBatch(first.getBatchId());
+                if (next == null) {
+                    break;
+                }
+                jobs.add(next);
+            }
+        }
+
+        // Step 0: Jobs whose earlier claims never finished (worker crashed
+        // or lease expired) are not tried again past max-attempts; a lease
+        // that ran out while queued here may already be another worker's
+        LocalDateTime now = LocalDateTime.now();
+        jobs.removeIf(job -> {
+            if (job.getLockedUntil() != null && job.getLockedUntil().isBefore(now)) {
+                return true;
+            }
+            if (job.getAttempts() <= maxAttempts) {
+                return false;
+            }
+            markFailed(job, new IllegalStateException("Lease expired on every attempt"));
+            return true;
+        });
+        if (jobs.isEmpty()) {
+            return;
+        }
+
+        // Step 1: Build each message on its own, so one bad job (e.g. a
+        // missing attachment) does not use up the others' attempts
+        List<MimeMessage> messages = new ArrayList<>(jobs.size());
+        for (Iterator<EmailJob> iterator = jobs.iterator(); iterator.hasNext(); ) {
+            EmailJob job = iterator.next();
+            try {
+                messages.add(toMessage(job));
+            } catch (Exception e) {
+                iterator.remove();
+                log.warn("Could not build email job {}: {}", job.getId(), e.getMessage());
+                markFailed(job, e);
+            }
+        }
+        if (jobs.isEmpty()) {
+            return;
+        }
+
+        // Step 2: Send; an exception here means nothing was sent
+        List<SmtpTransportPool.SendResult> results;
+        long start = System.nanoTime();
+        try {
+            results = emailService.sendAll(messages);
+        } catch (Exception e) {
+            jobs.forEach(job -> markFailed(job, e));
+            return;
+        } finally {
+            sendTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        // Step 3: Record each outcome on its own, so a delivered job is
+        // never put back for retry
+        for (int i = 0; i < jobs.size(); i++) {
+            EmailJob job = jobs.get(i);
+            try {
+                if (results.get(i).isSent()) {
+                    markSent(job);
+                    meterRegistry.counter("email.outbox.jobs", "result", "sent").increment();
+                } else {
+                    markFailed(job, results.get(i).error());
+                }
+            } catch (Exception e) {
+                log.error("Could not record outcome of email job {}", job.getId(), e);
+            }
+        }
+    }
+
+    private MimeMessage toMessage(EmailJob job) throws MessagingException {
+
+        if (job.getAttachmentId() != null) {
+            return emailService.createMessageWithAttachment(
+                    job.getTo(),
+                    job.getSubject(),
+                    job.getBody(),
+                    attachmentStore.dataSource(
+                            job.getAttachmentId(),
+                            job.getAttachmentName(),
+                            job.getAttachmentContentType()),
+                    job.getAttachmentName()
+            );
+        }
+        return emailService.createHtmlMessage(job.getTo(), job.getSubject(), job.getBody());
+    }
+
+    /**
+     * Matches the job only while this worker still holds its lease.
+     */
+    private static Query leased(EmailJob job) {
+        return Query.query(Criteria.where("_id").is(job.getId())
+                .and("leaseToken").is(job.getLeaseToken()));
+    }
+
+    private void markSent(EmailJob job) {
+
+        var result = mongoTemplate.updateFirst(
+                leased(job),
+                new Update()
+                        .set("status", EmailJob.SENT)
+                        .set("sentAt", LocalDateTime.now())
+                        .unset("lockedUntil")
+                        .unset("leaseToken"),
+                EmailJob.class
+        );
+
+        if (result.getMatchedCount() == 0) {
+            log.warn("Email job {} was sent after its lease expired", job.getId());
+        } else {
+            countInBatch(job, "sentCount");
+        }
+
+        releaseAttachment(job);
+    }
+
+    private void markFailed(EmailJob job, Exception error) {
+
+        // Already counted when the job was claimed
+        int attempts = job.getAttempts();
+        boolean dead = attempts >= maxAttempts;
+
+        Update update = new Update()
+                .set("lastError", String.valueOf(error.getMessage()))
+                .unset("lockedUntil")
+                .unset("leaseToken");
+
+        if (dead) {
+            update.set("status", EmailJob.DEAD);
+            meterRegistry.counter("email.outbox.jobs", "result", "dead").increment();
+            log.error("Email job {} to {} moved to dead letter after {} attempts",
+                    job.getId(), job.getTo(), attempts);
+        } else {
+            update.set("status", EmailJob.PENDING)
+                    .set("nextAttemptAt", LocalDateTime.now().plus(Duration.ofMillis(backoffMs(attempts))));
+            meterRegistry.counter("email.outbox.jobs", "result", "retry").increment();
+            log.warn("Email job {} failed (attempt {}), retrying", job.getId(), attempts);
+        }
+
+        // Another worker re-claimed it after our lease expired → leave it to them
+        if (mongoTemplate.updateFirst(leased(job), update, EmailJob.class).getMatchedCount() == 0) {
+            log.warn("Email job {} lease expired before its failure was recorded", job.getId());
+            return;
+        }
+
+        if (dead) {
+            countInBatch(job, "failedCount");
+            releaseAttachment(job);
+        }
+    }
+
+    /**
+     * Keep the final outcome on the bulk batch, which outlives its sent jobs.
+     */
+    private void countInBatch(EmailJob job, String field) {
+
+        if (job.getBatchId() == null) {
+            return;
+        }
+
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(job.getBatchId())),
+                new Update().inc(field, 1),
+                BulkEmail.class
+        );
+    }
+
+    /**
+     * Delete the stored attachment once no unfinished job still needs it.
+     */
+    private void releaseAttachment(EmailJob job) {
+
+        if (job.getAttachmentId() == null) {
+            return;
+        }
+
+        boolean stillNeeded = emailJobRepository.existsByAttachmentIdAndStatusIn(
+                job.getAttachmentId(), List.of(EmailJob.PENDING, EmailJob.SENDING));
+
+        if (!stillNeeded) {
+            attachmentStore.delete(job.getAttachmentId());
+        }
+    }
+
+    // Exponential backoff with ±20% jitter
+    private long backoffMs(int attempts) {
+        long base = Math.min(backoffMaxMs, backoffInitialMs << Math.min(attempts - 1, 20));
+        double jitter = 0.8 + ThreadLocalRandom.current().nextDouble() * 0.4;
+        return (long) (base * jitter);
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        // Unfinished jobs are reclaimed once their lease expires
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+}
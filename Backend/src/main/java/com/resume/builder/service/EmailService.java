@@ -1,85 +1,77 @@
 package com.resume.builder.service;
 
+import jakarta.activation.DataSource;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.ByteArrayResource;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
-@Slf4j
 public class EmailService {
 
     private final JavaMailSender mailSender;
+    private final SmtpTransportPool smtpTransportPool;
 
     @Value("${app.mail.from}")
     private String fromEmail;
 
-    public void sendHtmlEmail(String to, String subject, String htmlContent) {
-
-        try {
-            MimeMessage message = mailSender.createMimeMessage();
+    /**
+     * Send several prepared messages over one SMTP connection
+     */
+    public List<SmtpTransportPool.SendResult> sendAll(List<MimeMessage> messages)
+            throws MessagingException {
+        return smtpTransportPool.sendAll(messages);
+    }
 
-            MimeMessageHelper helper =
-                    new MimeMessageHelper(message, true, "UTF-8");
+    public MimeMessage createHtmlMessage(String to, String subject, String htmlContent)
+            throws MessagingException {
 
-            helper.setFrom(fromEmail);
-            helper.setTo(to);
-            helper.setSubject(subject);
-            helper.setText(htmlContent, true);
+        MimeMessage message = mailSender.createMimeMessage();
 
-            mailSender.send(message);
+        MimeMessageHelper helper =
+                new MimeMessageHelper(message, true, "UTF-8");
 
-            log.info("Verification email sent to {}", to);
+        helper.setFrom(fromEmail);
+        helper.setTo(to);
+        helper.setSubject(subject);
+        helper.setText(htmlContent, true);
 
-        } catch (MessagingException e) {
-            log.error("Failed to send email to {}", to, e);
-            throw new RuntimeException("Failed to send email");
-        }
+        return message;
     }
-    /**
-     * Send email with attachment (PDF)
-     */
-    public void sendEmailWithAttachment(
+
+    public MimeMessage createMessageWithAttachment(
             String to,
             String subject,
             String body,
-            byte[] attachment,
+            DataSource attachment,
             String filename
-    ) {
-        try {
-            // ✅ Step 1: Create MIME message
-            MimeMessage message =
-                    mailSender.createMimeMessage();
-
-            // ✅ Step 2: Helper (multipart = true)
-            MimeMessageHelper helper =
-                    new MimeMessageHelper(message, true);
-
-            helper.setFrom(fromEmail);
-            helper.setTo(to);
-            helper.setSubject(subject);
-            helper.setText(body);
-
-            // ✅ Step 3: Add PDF attachment
-            helper.addAttachment(
-                    filename,
-                    new ByteArrayResource(attachment)
-            );
-
-            // ✅ Step 4: Send email
-            mailSender.send(message);
-
-            log.info("Resume email sent successfully to {}", to);
-
-        } catch (Exception e) {
-            log.error("Failed to send email", e);
-            throw new RuntimeException("Email sending failed");
-        }
+    ) throws MessagingException {
+
+        // ✅ Step 1: Create MIME message
+        MimeMessage message =
+                mailSender.createMimeMessage();
+
+        // ✅ Step 2: Helper (multipart = true)
+        MimeMessageHelper helper =
+                new MimeMessageHelper(message, true);
+
+        helper.setFrom(fromEmail);
+        helper.setTo(to);
+        helper.setSubject(subject);
+        helper.setText(body);
+
+        // ✅ Step 3: Add PDF attachment (streamed, never fully in memory)
+        helper.addAttachment(
+                filename,
+                attachment
+        );
+
+        return message;
     }
 }
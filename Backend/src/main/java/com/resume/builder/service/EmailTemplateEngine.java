@@ -0,0 +1,143 @@
+package com.resume.builder.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Minimal HTML email templates with {{placeholder}} substitution.
+ * Templates are read from classpath:email-templates/*.html once at startup
+ * and split into literal / placeholder segments; rendering only appends.
+ * All values are HTML-escaped.
+ */
+@Component
+@Slf4j
+public class EmailTemplateEngine {
+
+    private static final String LOCATION = "classpath*:email-templates/*.html";
+
+    // Reused per thread; dropped if a huge render inflated it
+    private static final int MAX_RETAINED_BUFFER = 64 * 1024;
+    private static final ThreadLocal<StringBuilder> BUFFER =
+            ThreadLocal.withInitial(() -> new StringBuilder(4096));
+
+    private final Map<String, CompiledTemplate> templates = new HashMap<>();
+
+    /**
+     * Segments alternate literal text and placeholder names.
+     */
+    private record CompiledTemplate(String[] literals, String[] placeholders, int literalLength) {
+    }
+
+    @PostConstruct
+    void loadTemplates() throws IOException {
+
+        Resource[] resources =
+                new PathMatchingResourcePatternResolver().getResources(LOCATION);
+
+        for (Resource resource : resources) {
+            String filename = resource.getFilename();
+            if (filename == null) {
+                continue;
+            }
+
+            try (InputStream in = resource.getInputStream()) {
+                String source = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+                String name = filename.substring(0, filename.length() - ".html".length());
+                templates.put(name, compile(source));
+            }
+        }
+
+        log.info("Loaded email templates: {}", templates.keySet());
+    }
+
+    public String render(String templateName, Map<String, String> values) {
+
+        CompiledTemplate template = templates.get(templateName);
+        if (template == null) {
+            throw new IllegalArgumentException("Unknown email template: " + templateName);
+        }
+
+        StringBuilder out = BUFFER.get();
+        out.setLength(0);
+        out.ensureCapacity(template.literalLength() + 256);
+
+        String[] literals = template.literals();
+        String[] placeholders = template.placeholders();
+
+        for (int i = 0; i < placeholders.length; i++) {
+            out.append(literals[i]);
+            appendEscaped(out, values.get(placeholders[i]));
+        }
+        out.append(literals[literals.length - 1]);
+
+        String rendered = out.toString();
+        if (out.capacity() > MAX_RETAINED_BUFFER) {
+            BUFFER.remove();
+        }
+        return rendered;
+    }
+
+    static CompiledTemplate compile(String source) {
+
+        List<String> literals = new ArrayList<>();
+        List<String> placeholders = new ArrayList<>();
+
+        int position = 0;
+        int literalLength = 0;
+
+        while (true) {
+            int open = source.indexOf("{{", position);
+            int close = open < 0 ? -1 : source.indexOf("}}", open + 2);
+
+            if (open < 0 || close < 0) {
+                String tail = source.substring(position);
+                literals.add(tail);
+                literalLength += tail.length();
+                break;
+            }
+
+            String literal = source.substring(position, open);
+            literals.add(literal);
+            literalLength += literal.length();
+
+            placeholders.add(source.substring(open + 2, close).trim());
+            position = close + 2;
+        }
+
+        return new CompiledTemplate(
+                literals.toArray(String[]::new),
+                placeholders.toArray(String[]::new),
+                literalLength
+        );
+    }
+
+    private static void appendEscaped(StringBuilder out, String value) {
+
+        if (value == null) {
+            return;
+        }
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '&' -> out.append("&amp;");
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '"' -> out.append("&quot;");
+                case '\'' -> out.append("&#39;");
+                default -> out.append(c);
+            }
+        }
+    }
+}
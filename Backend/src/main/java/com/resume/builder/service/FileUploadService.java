@@ -7,9 +7,14 @@ import com.resume.builder.document.User;
 import com.resume.builder.repository.ResumeRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -21,6 +26,9 @@ public class FileUploadService {
 
     private final Cloudinary cloudinary;
     private final ResumeRepository resumeRepository;
+    private final ResumeHistoryService resumeHistoryService;
+    private final ResumeThumbnailService resumeThumbnailService;
+    private final MongoTemplate mongoTemplate;
     // Allowed image MIME types
     private static final Set<String> ALLOWED_CONTENT_TYPES = Set.of(
             "image/jpeg",
@@ -95,6 +103,7 @@ public class FileUploadService {
                         new RuntimeException("Resume not found"));
 
         Map<String, String> returnValue = new HashMap<>();
+        Update update = new Update();
 
         // Step 3: Upload thumbnail image (if provided)
         if (thumbnail != null && !thumbnail.isEmpty()) {
@@ -102,8 +111,10 @@ public class FileUploadService {
             Map<String, String> uploadResult =
                     uploadSingleImage(thumbnail);
 
-            existingResume.setThumbnailLink(
-                    uploadResult.get("imageUrl"));
+            // Hash of what the client rendered, so the server doesn't
+            // replace it until the visual fields change again
+            update.set("thumbnailLink", uploadResult.get("imageUrl"))
+                    .set("thumbnailHash", resumeThumbnailService.visualHash(existingResume));
 
             returnValue.put(
                     "thumbnailLink",
@@ -117,21 +128,28 @@ public class FileUploadService {
                     uploadSingleImage(profileImage);
 
             if (existingResume.getProfileInfo() == null) {
-                existingResume.setProfileInfo(
-                        new Resume.ProfileInfo());
+                update.set("profileInfo", Map.of("profilePreviewUrl", uploadResult.get("imageUrl")));
+            } else {
+                update.set("profileInfo.profilePreviewUrl", uploadResult.get("imageUrl"));
             }
 
-            existingResume.getProfileInfo()
-                    .setProfilePreviewUrl(
-                            uploadResult.get("imageUrl"));
-
             returnValue.put(
                     "profilePreviewUrl",
                     uploadResult.get("imageUrl"));
         }
 
-        // Step 5: Save updated resume
-        resumeRepository.save(existingResume);
+        // Step 5: Save only the uploaded fields (a full save() could undo a
+        // thumbnail written by ResumeThumbnailService in the meantime)
+        if (!update.getUpdateObject().isEmpty()) {
+            mongoTemplate.updateFirst(
+                    Query.query(Criteria.where("_id").is(existingResume.getId())
+                            .and("userId").is(user.getId())),
+                    update.set("updatedAt", LocalDateTime.now())
+                            .inc("version", 1),
+                    Resume.class
+            );
+            resumeHistoryService.record(existingResume.getId());
+        }
 
         // Step 6: Add success message
         returnValue.put(
@@ -0,0 +1,295 @@
+package com.resume.builder.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.resume.builder.document.Resume;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.StringJoiner;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Converts resumes to and from the JSON Resume format
+ * (https://jsonresume.org/schema). Fields without a standard counterpart
+ * (title, theme, colours, project repository) are kept under "meta" or as
+ * extra properties, which the schema allows.
+ */
+@Component
+@RequiredArgsConstructor
+public class JsonResumeMapper {
+
+    static final String SCHEMA = "https://raw.githubusercontent.com/jsonresume/resume-schema/v1.0.0/schema.json";
+
+    static final String DEFAULT_THEME = "Classic Blue";
+
+    // Leading number of a level such as "80%" or "80"
+    private static final Pattern PERCENT = Pattern.compile("^\\s*(\\d{1,3})\\s*%?\\s*$");
+
+    private final ObjectMapper objectMapper;
+
+    public ObjectNode toJsonResume(Resume resume) {
+
+        ObjectNode root = objectMapper.createObjectNode();
+        root.put("$schema", SCHEMA);
+
+        // Step 1: basics (profile + contact)
+        ObjectNode basics = root.putObject("basics");
+        Resume.ProfileInfo profile = resume.getProfileInfo();
+        if (profile != null) {
+            putText(basics, "name", profile.getFullName());
+            putText(basics, "label", profile.getDesignation());
+            putText(basics, "image", profile.getProfilePreviewUrl());
+            putText(basics, "summary", profile.getSummary());
+        }
+
+        Resume.ContactInfo contact = resume.getContactInfo();
+        if (contact != null) {
+            putText(basics, "email", contact.getEmail());
+            putText(basics, "phone", contact.getPhone());
+            putText(basics, "url", contact.getWebsite());
+            if (contact.getLocation() != null) {
+                basics.putObject("location").put("address", contact.getLocation());
+            }
+            ArrayNode profiles = basics.putArray("profiles");
+            addProfile(profiles, "LinkedIn", contact.getLinkedIn());
+            addProfile(profiles, "GitHub", contact.getGithub());
+        }
+
+        // Step 2: sections
+        putArray(root, "work", resume.getWorkExperience(), (node, work) -> {
+            putText(node, "name", work.getCompany());
+            putText(node, "position", work.getRole());
+            putText(node, "startDate", work.getStartDate());
+            putText(node, "endDate", work.getEndDate());
+            putText(node, "summary", work.getDescription());
+        });
+        putArray(root, "education", resume.getEducation(), (node, education) -> {
+            putText(node, "institution", education.getInstitution());
+            putText(node, "studyType", education.getDegree());
+            putText(node, "startDate", education.getStartDate());
+            putText(node, "endDate", education.getEndDate());
+        });
+        putArray(root, "skills", resume.getSkills(), (node, skill) -> {
+            putText(node, "name", skill.getName());
+            if (skill.getProgress() != null) {
+                node.put("level", skill.getProgress() + "%");
+            }
+        });
+        putArray(root, "projects", resume.getProjects(), (node, project) -> {
+            putText(node, "name", project.getTitle());
+            putText(node, "description", project.getDescription());
+            putText(node, "url", project.getLiveDemo());
+            putText(node, "repository", project.getGithub());
+        });
+        putArray(root, "certificates", resume.getCertifications(), (node, certification) -> {
+            putText(node, "name", certification.getTitle());
+            putText(node, "issuer", certification.getIssuer());
+            putText(node, "date", certification.getYear());
+        });
+        putArray(root, "languages", resume.getLanguages(), (node, language) -> {
+            putText(node, "language", language.getName());
+            if (language.getProgress() != null) {
+                node.put("fluency", language.getProgress() + "%");
+            }
+        });
+        putArray(root, "interests", resume.getInterests(), (node, interest) ->
+                putText(node, "name", interest));
+
+        // Step 3: app-specific data
+        ObjectNode meta = root.putObject("meta");
+        meta.put("version", "v1.0.0");
+        putText(meta, "title", resume.getTitle());
+        Resume.Template template = resume.getTemplate();
+        if (template != null) {
+            putText(meta, "theme", template.getTheme());
+            if (template.getColorPalette() != null) {
+                meta.set("colorPalette", objectMapper.valueToTree(template.getColorPalette()));
+            }
+        }
+        if (resume.getUpdatedAt() != null) {
+            meta.put("lastModified", resume.getUpdatedAt().toString());
+        }
+
+        return root;
+    }
+
+    /**
+     * Build a resume from a JSON Resume document. Title and template come
+     * from "meta" when present; userId, ids and timestamps are not set.
+     */
+    public Resume fromJsonResume(JsonNode root) {
+
+        Resume resume = new Resume();
+
+        // Step 1: basics → profile + contact
+        JsonNode basics = root.path("basics");
+        resume.setProfileInfo(Resume.ProfileInfo.builder()
+                .fullName(text(basics, "name"))
+                .designation(text(basics, "label"))
+                .profilePreviewUrl(text(basics, "image"))
+                .summary(text(basics, "summary"))
+                .build());
+        resume.setContactInfo(Resume.ContactInfo.builder()
+                .email(text(basics, "email"))
+                .phone(text(basics, "phone"))
+                .website(text(basics, "url"))
+                .location(location(basics.path("location")))
+                .linkedIn(profileUrl(basics.path("profiles"), "linkedin"))
+                .github(profileUrl(basics.path("profiles"), "github"))
+                .build());
+
+        // Step 2: sections
+        resume.setWorkExperience(list(root.path("work"), work -> Resume.WorkExperience.builder()
+                .company(text(work, "name"))
+                .role(text(work, "position"))
+                .startDate(text(work, "startDate"))
+                .endDate(text(work, "endDate"))
+                .description(withHighlights(text(work, "summary"), work.path("highlights")))
+                .build()));
+        resume.setEducation(list(root.path("education"), education -> {
+            String degree = text(education, "studyType");
+            String area = text(education, "area");
+            return Resume.Education.builder()
+                    .degree(degree != null && area != null ? degree + " in " + area
+                            : degree != null ? degree : area)
+                    .institution(text(education, "institution"))
+                    .startDate(text(education, "startDate"))
+                    .endDate(text(education, "endDate"))
+                    .build();
+        }));
+        resume.setSkills(list(root.path("skills"), skill -> Resume.Skill.builder()
+                .name(text(skill, "name"))
+                .progress(percent(text(skill, "level")))
+                .build()));
+        resume.setProjects(list(root.path("projects"), project -> Resume.Project.builder()
+                .title(text(project, "name"))
+                .description(withHighlights(text(project, "description"), project.path("highlights")))
+                .liveDemo(text(project, "url"))
+                .github(text(project, "repository"))
+                .build()));
+        resume.setCertifications(list(root.path("certificates"), certificate -> Resume.Certification.builder()
+                .title(text(certificate, "name"))
+                .issuer(text(certificate, "issuer"))
+                .year(text(certificate, "date"))
+                .build()));
+        resume.setLanguages(list(root.path("languages"), language -> Resume.Language.builder()
+                .name(text(language, "language"))
+                .progress(percent(text(language, "fluency")))
+                .build()));
+        resume.setInterests(list(root.path("interests"), interest ->
+                interest.isTextual() ? interest.asText() : text(interest, "name")));
+
+        // Step 3: meta → title + template
+        JsonNode meta = root.path("meta");
+        resume.setTitle(text(meta, "title"));
+
+        List<String> palette = list(meta.path("colorPalette"), color ->
+                color.isTextual() ? color.asText() : null);
+        String theme = text(meta, "theme");
+        resume.setTemplate(Resume.Template.builder()
+                .theme(theme != null ? theme : DEFAULT_THEME)
+                .colorPalette(palette)
+                .build());
+
+        return resume;
+    }
+
+    private static String location(JsonNode location) {
+
+        String address = text(location, "address");
+        if (address != null) {
+            return address;
+        }
+
+        StringJoiner parts = new StringJoiner(", ");
+        for (String field : List.of("city", "region", "countryCode")) {
+            String part = text(location, field);
+            if (part != null) {
+                parts.add(part);
+            }
+        }
+        return parts.length() == 0 ? null : parts.toString();
+    }
+
+    private static String profileUrl(JsonNode profiles, String network) {
+
+        for (JsonNode profile : profiles) {
+            String name = text(profile, "network");
+            if (name != null && name.toLowerCase(Locale.ROOT).contains(network)) {
+                return text(profile, "url");
+            }
+        }
+        return null;
+    }
+
+    private static String withHighlights(String text, JsonNode highlights) {
+
+        StringJoiner lines = new StringJoiner("\n");
+        if (text != null) {
+            lines.add(text);
+        }
+        for (JsonNode highlight : highlights) {
+            if (highlight.isTextual()) {
+                lines.add("• " + highlight.asText());
+            }
+        }
+        return lines.length() == 0 ? null : lines.toString();
+    }
+
+    private static Integer percent(String level) {
+
+        if (level == null) {
+            return null;
+        }
+        Matcher matcher = PERCENT.matcher(level);
+        return matcher.matches() ? Math.min(Integer.parseInt(matcher.group(1)), 100) : null;
+    }
+
+    private static <T> List<T> list(JsonNode array, Function<JsonNode, T> mapper) {
+
+        List<T> items = new ArrayList<>();
+        for (JsonNode item : array) {
+            T mapped = mapper.apply(item);
+            if (mapped != null) {
+                items.add(mapped);
+            }
+        }
+        return items;
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.path(field);
+        return value.isValueNode() && !value.isNull() ? value.asText() : null;
+    }
+
+    private static <T> void putArray(ObjectNode root, String field, List<T> items,
+                                     BiConsumer<ObjectNode, T> mapper) {
+        ArrayNode array = root.putArray(field);
+        if (items != null) {
+            items.forEach(item -> mapper.accept(array.addObject(), item));
+        }
+    }
+
+    private static void addProfile(ArrayNode profiles, String network, String url) {
+        if (url != null && !url.isBlank()) {
+            profiles.addObject()
+                    .put("network", network)
+                    .put("url", url);
+        }
+    }
+
+    private static void putText(ObjectNode node, String field, String value) {
+        if (value != null) {
+            node.put(field, value);
+        }
+    }
+}
@@ -5,9 +5,10 @@ import com.razorpay.RazorpayClient;
 import com.razorpay.RazorpayException;
 import com.resume.builder.document.Payment;
 import com.resume.builder.document.User;
-import com.resume.builder.dto.AuthResponse;
 import com.resume.builder.repository.PaymentRepository;
 import com.resume.builder.repository.UserRepository;
+import com.resume.builder.security.CurrentUserContext;
+import com.resume.builder.security.UserPrincipalCache;
 import com.resume.builder.util.AppConstants;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,8 +26,9 @@ import java.util.UUID;
 public class PaymentService {
 
     private final PaymentRepository paymentRepository;
-    private final AuthService authService;
     private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
+    private final CurrentUserContext currentUserContext;
 
     @Value("${razorpay.key.id}")
     private String razorpayKeyId;
@@ -35,11 +37,10 @@ public class PaymentService {
     private String razorpayKeySecret;
 
     // ---------------- CREATE ORDER ----------------
-    public Payment createOrder(Object principal, String planType)
+    public Payment createOrder(String planType)
             throws RazorpayException {
 
-        AuthResponse authResponse =
-                authService.getProfile((User) principal);
+        String userId = currentUserContext.getUserId();
 
         RazorpayClient razorpayClient =
                 new RazorpayClient(razorpayKeyId, razorpayKeySecret);
@@ -59,7 +60,7 @@ public class PaymentService {
                 razorpayClient.orders.create(orderRequest);
 
         Payment payment = Payment.builder()
-                .userId(authResponse.getId())
+                .userId(userId)
                 .razorpayOrderId(razorpayOrder.get("id"))
                 .amount(amount)
                 .currency(currency)
@@ -92,10 +93,12 @@ public class PaymentService {
         // Update user subscription plan to Premium
         User user = userRepository.findById(payment.getUserId())
                 .orElseThrow(() -> new RuntimeException("User not found"));
-        
+        currentUserContext.recordUserRead();
+
         log.info("Updating user {} subscription from {} to Premium", user.getId(), user.getSubscriptionPlan());
         user.setSubscriptionPlan("Premium");
         User updatedUser = userRepository.save(user);
+        userPrincipalCache.invalidate(updatedUser.getId());
         log.info("User {} subscription updated to {}", updatedUser.getId(), updatedUser.getSubscriptionPlan());
 
         return Map.of(
@@ -105,13 +108,10 @@ public class PaymentService {
     }
 
     // ---------------- PAYMENT HISTORY ----------------
-    public List<Payment> getPaymentHistory(Object principal) {
-
-        AuthResponse authResponse =
-                authService.getProfile((User) principal);
+    public List<Payment> getPaymentHistory() {
 
         return paymentRepository
-                .findByUserIdOrderByCreatedAtDesc(authResponse.getId());
+                .findByUserIdOrderByCreatedAtDesc(currentUserContext.getUserId());
     }
 
     // ---------------- GET ORDER DETAILS ----------------
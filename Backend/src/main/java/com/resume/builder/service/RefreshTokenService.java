@@ -0,0 +1,144 @@
+package com.resume.builder.service;
+
+import com.resume.builder.document.RefreshToken;
+import com.resume.builder.exception.InvalidTokenException;
+import com.resume.builder.repository.RefreshTokenRepository;
+import com.resume.builder.security.TokenRevocationList;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Opaque, rotating refresh tokens. Each login starts a token family
+ * (its id doubles as the access-token session id). Presenting an already
+ * rotated token revokes the whole family.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshTokenService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final MongoTemplate mongoTemplate;
+    private final TokenRevocationList tokenRevocationList;
+
+    @Value("${jwt.refresh-expiration:2592000000}")
+    private long refreshExpirationMs;
+
+    public record IssuedToken(String rawToken, String userId, String familyId) {
+    }
+
+    /**
+     * Start a new session for the user.
+     */
+    public IssuedToken issue(String userId) {
+        return issue(userId, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Exchange a refresh token for a new one in the same family.
+     */
+    public IssuedToken rotate(String rawToken) {
+
+        String tokenHash = hash(rawToken);
+
+        // Atomically claim the token so two concurrent refreshes can't both win
+        RefreshToken current = mongoTemplate.findAndModify(
+                Query.query(Criteria.where("_id").is(tokenHash)
+                        .and("revoked").is(false)
+                        .and("expiresAt").gt(LocalDateTime.now())),
+                new Update().set("revoked", true),
+                FindAndModifyOptions.options().returnNew(false),
+                RefreshToken.class
+        );
+
+        if (current == null) {
+            refreshTokenRepository.findById(tokenHash)
+                    .filter(RefreshToken::isRevoked)
+                    .ifPresent(reused -> {
+                        log.warn("Refresh token reuse detected for user {}", reused.getUserId());
+                        revokeFamily(reused.getFamilyId(), reused.getUserId());
+                    });
+            throw new InvalidTokenException("Invalid or expired refresh token");
+        }
+
+        IssuedToken next = issue(current.getUserId(), current.getFamilyId());
+
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(tokenHash)),
+                new Update().set("replacedBy", hash(next.rawToken())),
+                RefreshToken.class
+        );
+
+        return next;
+    }
+
+    /**
+     * Logout: revoke the family of this refresh token, if it exists.
+     */
+    public void revoke(String rawToken) {
+        refreshTokenRepository.findById(hash(rawToken))
+                .ifPresent(token ->
+                        revokeFamily(token.getFamilyId(), token.getUserId()));
+    }
+
+    private void revokeFamily(String familyId, String userId) {
+
+        mongoTemplate.updateMulti(
+                Query.query(Criteria.where("familyId").is(familyId)
+                        .and("revoked").is(false)),
+                new Update().set("revoked", true),
+                RefreshToken.class
+        );
+
+        // Kill outstanding access tokens of this session
+        tokenRevocationList.revoke(familyId, userId);
+    }
+
+    private IssuedToken issue(String userId, String familyId) {
+
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        RefreshToken token = RefreshToken.builder()
+                .id(hash(rawToken))
+                .userId(userId)
+                .familyId(familyId)
+                .revoked(false)
+                .expiresAt(LocalDateTime.now().plus(Duration.ofMillis(refreshExpirationMs)))
+                .build();
+
+        refreshTokenRepository.insert(token);
+
+        return new IssuedToken(rawToken, userId, familyId);
+    }
+
+    private static String hash(String rawToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(
+                    digest.digest(rawToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
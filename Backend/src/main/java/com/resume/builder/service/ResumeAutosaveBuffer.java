@@ -0,0 +1,318 @@
+package com.resume.builder.service;
+
+import com.mongodb.bulk.BulkWriteResult;
+import com.resume.builder.document.Resume;
+import com.resume.builder.exception.ResourceNotFoundException;
+import com.resume.builder.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Write-behind buffer for editor autosaves.
+ * Only the latest state per resume is kept; a flush writes all dirty
+ * resumes in one unordered bulkWrite. Flushes run on a fixed interval,
+ * as soon as the buffer holds too many resumes or bytes, and on shutdown.
+ * A full buffer is flushed on the caller's thread before it takes more;
+ * if that can't happen within flush-wait-ms the autosave is rejected (503),
+ * so the buffer stays bounded even while the database is slow.
+ *
+ * A buffered state is only written if the resume was not updated after it
+ * was accepted, so a later PUT/PATCH is never overwritten by an older
+ * autosave. Entries are keyed by (user, resume) and ownership is checked
+ * before anything is buffered, so nobody can take buffer space with (or
+ * overwrite drafts of) resumes they don't own.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ResumeAutosaveBuffer {
+
+    private final MongoTemplate mongoTemplate;
+    private final ResumeThumbnailService resumeThumbnailService;
+    private final ResumeHistoryService resumeHistoryService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${resume.autosave.max-entries:1000}")
+    private int maxEntries;
+
+    @Value("${resume.autosave.max-bytes:16777216}")
+    private long maxBytes;
+
+    @Value("${resume.autosave.flush-wait-ms:2000}")
+    private long flushWaitMs;
+
+    private record Key(String userId, String resumeId) {
+    }
+
+    private record Pending(Resume data, LocalDateTime acceptedAt, long bytes) {
+    }
+
+    private final Map<Key, Pending> pending = new ConcurrentHashMap<>();
+    private final AtomicLong bufferedBytes = new AtomicLong();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private Counter accepted;
+    private Counter written;
+    private Counter skipped;
+    private Counter rejected;
+    private Timer flushTimer;
+
+    @PostConstruct
+    void init() {
+        accepted = meterRegistry.counter("resume.autosave.edits", "result", "accepted");
+        written = meterRegistry.counter("resume.autosave.edits", "result", "written");
+        skipped = meterRegistry.counter("resume.autosave.edits", "result", "superseded");
+        rejected = meterRegistry.counter("resume.autosave.edits", "result", "rejected");
+        flushTimer = Timer.builder("resume.autosave.flush")
+                .description("Time to bulk-write buffered autosaves")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+
+        Gauge.builder("resume.autosave.buffer.size", pending, Map::size)
+                .register(meterRegistry);
+        Gauge.builder("resume.autosave.buffer.bytes", bufferedBytes, AtomicLong::get)
+                .register(meterRegistry);
+        // Edits received per document write (higher = more coalescing)
+        Gauge.builder("resume.autosave.coalescing.ratio", this, buffer ->
+                        buffer.written.count() == 0
+                                ? 0
+                                : buffer.accepted.count() / buffer.written.count())
+                .register(meterRegistry);
+    }
+
+    /**
+     * Buffer the latest editor state of a resume.
+     *
+     * @param bytes request body size, used for the memory bound
+     * @throws ResourceNotFoundException if the resume doesn't exist or belongs to someone else
+     * @throws ServiceUnavailableException if the buffer is full and can't be flushed in time
+     */
+    public void accept(String resumeId, String userId, Resume data, long bytes) {
+
+        // Only the owner may buffer edits (indexed lookup on _id)
+        if (!mongoTemplate.exists(Query.query(owned(resumeId, userId)), Resume.class)) {
+            throw new ResourceNotFoundException("Resume not found");
+        }
+
+        // Full → write it out on this thread first (natural backpressure)
+        if (isFull() && !drain()) {
+            rejected.increment();
+            throw new ServiceUnavailableException("Autosave buffer is full, retry shortly");
+        }
+
+        accepted.increment();
+
+        // Millisecond precision, as stored, so writtenIds() can match on it
+        Pending entry = new Pending(data, LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS),
+                Math.max(bytes, 0));
+        Pending previous = pending.put(new Key(userId, resumeId), entry);
+        bufferedBytes.addAndGet(entry.bytes() - (previous == null ? 0 : previous.bytes()));
+
+        // Just filled up → start a flush unless one is running
+        if (isFull()) {
+            flush();
+        }
+    }
+
+    private boolean isFull() {
+        return pending.size() >= maxEntries || bufferedBytes.get() >= maxBytes;
+    }
+
+    /**
+     * Flush, waiting for a flush already in progress to finish first.
+     *
+     * @return true if the buffer has room afterwards
+     */
+    private boolean drain() {
+
+        try {
+            if (!flushLock.tryLock(flushWaitMs, TimeUnit.MILLISECONDS)) {
+                return false;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+
+        try {
+            // Reentrant: flush() takes the lock again
+            flush();
+        } finally {
+            flushLock.unlock();
+        }
+        return !isFull();
+    }
+
+    /**
+     * Drop a buffered autosave because a newer full write (PUT / delete) happened.
+     */
+    public void discard(String resumeId, String userId) {
+        Pending removed = pending.remove(new Key(userId, resumeId));
+        if (removed != null) {
+            bufferedBytes.addAndGet(-removed.bytes());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${resume.autosave.flush-interval-ms:2000}")
+    public void flush() {
+
+        if (pending.isEmpty() || !flushLock.tryLock()) {
+            return;
+        }
+
+        try {
+            // Step 1: Take ownership of everything buffered so far
+            List<Map.Entry<Key, Pending>> batch = new ArrayList<>(pending.size());
+            for (Key key : List.copyOf(pending.keySet())) {
+                Pending entry = pending.remove(key);
+                if (entry != null) {
+                    bufferedBytes.addAndGet(-entry.bytes());
+                    batch.add(Map.entry(key, entry));
+                }
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            // Step 2: One bulkWrite for all resumes
+            BulkOperations operations =
+                    mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Resume.class);
+            for (Map.Entry<Key, Pending> entry : batch) {
+                operations.updateOne(filter(entry.getKey(), entry.getValue()), update(entry.getValue()));
+            }
+
+            try {
+                BulkWriteResult result = flushTimer.recordCallable(operations::execute);
+
+                written.increment(result.getModifiedCount());
+                skipped.increment(batch.size() - result.getMatchedCount());
+
+                // Step 3: Thumbnail and history only for resumes that were written
+                for (String resumeId : writtenIds(batch, result)) {
+                    resumeThumbnailService.refresh(resumeId);
+                    resumeHistoryService.record(resumeId);
+                }
+
+                log.debug("Autosave flushed {} resumes ({} written)",
+                        batch.size(), result.getModifiedCount());
+
+            } catch (Exception e) {
+                // Put back unless a newer edit arrived meanwhile
+                batch.forEach(entry -> {
+                    if (pending.putIfAbsent(entry.getKey(), entry.getValue()) == null) {
+                        bufferedBytes.addAndGet(entry.getValue().bytes());
+                    }
+                });
+                log.error("Autosave flush of {} resumes failed, will retry", batch.size(), e);
+            }
+
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Ids of the batch entries the bulk write applied. A written resume carries
+     * the entry's acceptedAt as updatedAt; superseded and foreign ones don't.
+     */
+    private List<String> writtenIds(List<Map.Entry<Key, Pending>> batch, BulkWriteResult result) {
+
+        if (result.getMatchedCount() == 0) {
+            return List.of();
+        }
+        if (result.getMatchedCount() == batch.size()) {
+            return batch.stream().map(entry -> entry.getKey().resumeId()).toList();
+        }
+
+        // Partial batch → one indexed lookup to tell which entries matched
+        Criteria[] written = batch.stream()
+                .map(entry -> owned(entry.getKey().resumeId(), entry.getKey().userId())
+                        .and("updatedAt").is(entry.getValue().acceptedAt()))
+                .toArray(Criteria[]::new);
+        Query query = Query.query(new Criteria().orOperator(written));
+        query.fields().include("_id");
+
+        return mongoTemplate.find(query, Resume.class).stream()
+                .map(Resume::getId)
+                .toList();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        // Wait for an in-flight flush, then write what is left
+        flushLock.lock();
+        flushLock.unlock();
+        flush();
+
+        if (!pending.isEmpty()) {
+            log.warn("{} autosaves could not be written on shutdown", pending.size());
+        }
+    }
+
+    private static Criteria owned(String resumeId, String userId) {
+
+        Criteria id = ObjectId.isValid(resumeId)
+                ? Criteria.where("_id").is(new ObjectId(resumeId))
+                : Criteria.where("_id").is(resumeId);
+
+        return id.and("userId").is(userId);
+    }
+
+    private static Query filter(Key key, Pending entry) {
+
+        // Skip if the resume changed after this autosave was accepted
+        return Query.query(owned(key.resumeId(), key.userId())
+                .orOperator(
+                        Criteria.where("updatedAt").lte(entry.acceptedAt()),
+                        Criteria.where("updatedAt").is(null)
+                ));
+    }
+
+    private Update update(Pending entry) {
+
+        Resume data = entry.data();
+        MongoConverter converter = mongoTemplate.getConverter();
+
+        // Same fields as ResumeService.updateResume
+        return new Update()
+                .set("title", data.getTitle())
+                .set("template", converter.convertToMongoType(data.getTemplate()))
+                .set("profileInfo", converter.convertToMongoType(data.getProfileInfo()))
+                .set("contactInfo", converter.convertToMongoType(data.getContactInfo()))
+                .set("workExperience", converter.convertToMongoType(data.getWorkExperience()))
+                .set("education", converter.convertToMongoType(data.getEducation()))
+                .set("skills", converter.convertToMongoType(data.getSkills()))
+                .set("projects", converter.convertToMongoType(data.getProjects()))
+                .set("certifications", converter.convertToMongoType(data.getCertifications()))
+                .set("languages", converter.convertToMongoType(data.getLanguages()))
+                .set("interests", converter.convertToMongoType(data.getInterests()))
+                .set("updatedAt", entry.acceptedAt())
+                .inc("version", 1);
+    }
+}
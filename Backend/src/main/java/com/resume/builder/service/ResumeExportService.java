@@ -0,0 +1,169 @@
+package com.resume.builder.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.resume.builder.document.Resume;
+import com.resume.builder.exception.UnsupportedFormatException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Streams resumes from a MongoDB cursor straight into an output stream,
+ * one document at a time, so memory use does not depend on how many
+ * resumes are exported.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ResumeExportService {
+
+    public static final String NDJSON = "application/x-ndjson";
+    public static final String ZIP = "application/zip";
+
+    // Documents fetched per cursor round trip
+    private static final int CURSOR_BATCH_SIZE = 100;
+
+    public enum Format {
+        NDJSON(ResumeExportService.NDJSON, "ndjson"),
+        ZIP(ResumeExportService.ZIP, "zip");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String contentType() {
+            return contentType;
+        }
+
+        /**
+         * Download name, e.g. resumes-2024-01-20.zip
+         */
+        public String filename(String prefix) {
+            return prefix + "-" + LocalDate.now() + "." + extension;
+        }
+
+        public static Format parse(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException | NullPointerException e) {
+                throw new UnsupportedFormatException("Format must be ndjson or zip");
+            }
+        }
+    }
+
+    private final MongoTemplate mongoTemplate;
+    private final ObjectMapper objectMapper;
+    private final JsonResumeMapper jsonResumeMapper;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Export one user's resumes, newest first.
+     *
+     * @return number of resumes written
+     */
+    public long exportUser(String userId, Format format, OutputStream out) throws IOException {
+
+        Query query = Query.query(Criteria.where("userId").is(userId))
+                .with(Sort.by(Sort.Direction.DESC, "updatedAt", "_id"));
+
+        return export(query, format, false, out);
+    }
+
+    /**
+     * Export every resume (backups), in _id order, grouped by user in ZIPs.
+     *
+     * @return number of resumes written
+     */
+    public long exportAll(Format format, OutputStream out) throws IOException {
+
+        Query query = new Query().with(Sort.by(Sort.Direction.ASC, "_id"));
+
+        return export(query, format, true, out);
+    }
+
+    private long export(Query query, Format format, boolean allUsers, OutputStream out)
+            throws IOException {
+
+        query.cursorBatchSize(CURSOR_BATCH_SIZE);
+
+        // Cursor is closed even if the client disconnects mid-export
+        long count;
+        try (Stream<Resume> resumes = mongoTemplate.stream(query, Resume.class)) {
+            count = switch (format) {
+                case NDJSON -> writeNdjson(resumes.iterator(), out);
+                case ZIP -> writeZip(resumes.iterator(), allUsers, out);
+            };
+        }
+
+        meterRegistry.counter("resume.export.documents",
+                        "format", format.name().toLowerCase(Locale.ROOT),
+                        "scope", allUsers ? "all" : "user")
+                .increment(count);
+
+        return count;
+    }
+
+    /**
+     * One resume (same JSON as the API) per line.
+     */
+    private long writeNdjson(Iterator<Resume> resumes, OutputStream out) throws IOException {
+
+        ObjectWriter writer = objectMapper.writerFor(Resume.class);
+        long count = 0;
+
+        while (resumes.hasNext()) {
+            out.write(writer.writeValueAsBytes(resumes.next()));
+            out.write('\n');
+            count++;
+        }
+        out.flush();
+
+        return count;
+    }
+
+    /**
+     * One JSON Resume file per resume.
+     */
+    private long writeZip(Iterator<Resume> resumes, boolean allUsers, OutputStream out)
+            throws IOException {
+
+        ObjectWriter writer = objectMapper.writerWithDefaultPrettyPrinter();
+        ZipOutputStream zip = new ZipOutputStream(out);
+        long count = 0;
+
+        while (resumes.hasNext()) {
+            Resume resume = resumes.next();
+
+            String name = (allUsers ? resume.getUserId() + "/" : "") + resume.getId() + ".json";
+            zip.putNextEntry(new ZipEntry(name));
+            zip.write(writer.writeValueAsBytes(jsonResumeMapper.toJsonResume(resume)));
+            zip.closeEntry();
+            count++;
+        }
+
+        // Finish (not close): the servlet container owns the response stream
+        zip.finish();
+        out.flush();
+
+        return count;
+    }
+}
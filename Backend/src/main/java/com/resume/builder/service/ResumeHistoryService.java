@@ -0,0 +1,319 @@
+package com.resume.builder.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flipkart.zjsonpatch.JsonDiff;
+import com.flipkart.zjsonpatch.JsonPatch;
+import com.resume.builder.document.Resume;
+import com.resume.builder.document.ResumeRevision;
+import com.resume.builder.repository.ResumeRepository;
+import com.resume.builder.repository.ResumeRevisionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Range;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Version history of resumes.
+ * After each write the resume content is captured as a JSON Patch delta
+ * against the previous revision, with a full snapshot every
+ * snapshot-interval revisions, so rebuilding any revision applies at most
+ * that many deltas. Capture runs on a single background thread (one writer
+ * keeps each chain linear); the last captured content per resume is cached
+ * so a capture is one read, one diff and one insert.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ResumeHistoryService {
+
+    private final ResumeRepository resumeRepository;
+    private final ResumeRevisionRepository revisionRepository;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${resume.history.snapshot-interval:20}")
+    private int snapshotInterval;
+
+    @Value("${resume.history.cache-size:1000}")
+    private int cacheSize;
+
+    @Value("${resume.history.queue-capacity:1000}")
+    private int queueCapacity;
+
+    /**
+     * Latest captured revision of a resume.
+     */
+    private record Head(long revision, int depth, JsonNode content) {
+    }
+
+    private Map<String, Head> heads;
+    private final Set<String> queued = ConcurrentHashMap.newKeySet();
+    private ThreadPoolExecutor executor;
+
+    private Counter snapshots;
+    private Counter deltas;
+    private DistributionSummary deltaBytes;
+    private Timer reconstructTimer;
+
+    @PostConstruct
+    void init() {
+        heads = Collections.synchronizedMap(
+                new LinkedHashMap<>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, Head> eldest) {
+                        return size() > cacheSize;
+                    }
+                });
+
+        executor = new ThreadPoolExecutor(
+                1,
+                1,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "resume-history");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        snapshots = meterRegistry.counter("resume.history.revisions", "type", ResumeRevision.SNAPSHOT);
+        deltas = meterRegistry.counter("resume.history.revisions", "type", ResumeRevision.DELTA);
+        deltaBytes = DistributionSummary.builder("resume.history.delta.bytes")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        reconstructTimer = meterRegistry.timer("resume.history.reconstruct");
+    }
+
+    /**
+     * Queue a capture of the resume's current state. Call after every write.
+     */
+    public void record(String resumeId) {
+
+        // Already waiting → that run reads the latest state
+        if (!queued.add(resumeId)) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> capture(resumeId));
+        } catch (RejectedExecutionException e) {
+            queued.remove(resumeId);
+            log.warn("History queue full, revision of resume {} not captured", resumeId);
+        }
+    }
+
+    /**
+     * Newest-first revisions before the given one (all if null).
+     */
+    public List<ResumeRevision> listRevisions(String resumeId, String userId, Long before, int limit) {
+
+        return revisionRepository.findByResumeIdAndUserIdAndRevisionLessThanOrderByRevisionDesc(
+                resumeId,
+                userId,
+                before == null ? Long.MAX_VALUE : before,
+                PageRequest.of(0, Math.max(1, Math.min(limit, 100)))
+        );
+    }
+
+    /**
+     * Full resume content (editable fields only) at a revision.
+     */
+    public JsonNode getContent(String resumeId, String userId, long revision) {
+
+        ResumeRevision target = revisionRepository
+                .findByResumeIdAndRevision(resumeId, revision)
+                .filter(entry -> entry.getUserId().equals(userId))
+                .orElseThrow(() ->
+                        new RuntimeException("Resume version not found"));
+
+        return reconstruct(target);
+    }
+
+    /**
+     * JSON Patch that turns revision "from" (or the current resume) into "revision".
+     */
+    public JsonNode diff(String resumeId, String userId, long revision, Long from) {
+
+        JsonNode source = from != null
+                ? getContent(resumeId, userId, from)
+                : contentOf(resumeRepository
+                        .findByUserIdAndId(userId, resumeId)
+                        .orElseThrow(() ->
+                                new RuntimeException("Resume not found")));
+
+        return JsonDiff.asJson(source, getContent(resumeId, userId, revision));
+    }
+
+    /**
+     * Remove the history of a deleted resume.
+     */
+    public void deleteHistory(String resumeId) {
+        heads.remove(resumeId);
+        revisionRepository.deleteByResumeId(resumeId);
+    }
+
+    /**
+     * The fields a revision stores; same set ResumeService.updateResume writes.
+     */
+    public JsonNode contentOf(Resume resume) {
+
+        Map<String, Object> content = new LinkedHashMap<>();
+        content.put("title", resume.getTitle());
+        content.put("template", resume.getTemplate());
+        content.put("profileInfo", resume.getProfileInfo());
+        content.put("contactInfo", resume.getContactInfo());
+        content.put("workExperience", resume.getWorkExperience());
+        content.put("education", resume.getEducation());
+        content.put("skills", resume.getSkills());
+        content.put("projects", resume.getProjects());
+        content.put("certifications", resume.getCertifications());
+        content.put("languages", resume.getLanguages());
+        content.put("interests", resume.getInterests());
+
+        return objectMapper.valueToTree(content);
+    }
+
+    // =====================
+    // CAPTURE
+    // =====================
+
+    private void capture(String resumeId) {
+
+        queued.remove(resumeId);
+
+        try {
+            // Step 1: Current state
+            Resume current = resumeRepository.findById(resumeId).orElse(null);
+            if (current == null) {
+                return;
+            }
+            long revision = Objects.requireNonNullElse(current.getVersion(), 0L);
+
+            // Step 2: Previous revision (cache, else rebuilt once)
+            Head head = heads.get(resumeId);
+            if (head == null) {
+                head = revisionRepository.findFirstByResumeIdOrderByRevisionDesc(resumeId)
+                        .map(latest -> new Head(latest.getRevision(), latest.getDepth(), reconstruct(latest)))
+                        .orElse(null);
+            }
+            if (head != null && head.revision() >= revision) {
+                return;
+            }
+
+            JsonNode content = contentOf(current);
+
+            ResumeRevision.ResumeRevisionBuilder entry = ResumeRevision.builder()
+                    .resumeId(resumeId)
+                    .userId(current.getUserId())
+                    .revision(revision);
+
+            // Step 3: Snapshot every N revisions, delta otherwise
+            int depth;
+            if (head == null || head.depth() + 1 >= snapshotInterval) {
+                depth = 0;
+                entry.type(ResumeRevision.SNAPSHOT)
+                        .data(content.toString());
+                snapshots.increment();
+            } else {
+                JsonNode patch = JsonDiff.asJson(head.content(), content);
+                if (patch.isEmpty()) {
+                    // Only non-content fields changed (thumbnail, version)
+                    return;
+                }
+                depth = head.depth() + 1;
+                String data = patch.toString();
+                entry.type(ResumeRevision.DELTA)
+                        .baseRevision(head.revision())
+                        .data(data);
+                deltas.increment();
+                deltaBytes.record(data.length());
+            }
+
+            revisionRepository.insert(entry.depth(depth).build());
+            heads.put(resumeId, new Head(revision, depth, content));
+
+        } catch (DuplicateKeyException e) {
+            // Captured elsewhere; reload head next time
+            heads.remove(resumeId);
+        } catch (Exception e) {
+            heads.remove(resumeId);
+            log.error("Failed to capture revision of resume {}", resumeId, e);
+        }
+    }
+
+    // =====================
+    // RECONSTRUCT
+    // =====================
+
+    private JsonNode reconstruct(ResumeRevision target) {
+
+        return reconstructTimer.record(() -> {
+
+            if (ResumeRevision.SNAPSHOT.equals(target.getType())) {
+                return parse(target.getData());
+            }
+
+            // Step 1: Entries between the nearest snapshot and the target
+            ResumeRevision snapshot = revisionRepository
+                    .findFirstByResumeIdAndTypeAndRevisionLessThanEqualOrderByRevisionDesc(
+                            target.getResumeId(), ResumeRevision.SNAPSHOT, target.getRevision())
+                    .orElseThrow(() ->
+                            new IllegalStateException("No snapshot for resume " + target.getResumeId()));
+
+            Map<Long, ResumeRevision> byRevision = new HashMap<>();
+            for (ResumeRevision entry : revisionRepository.findByResumeIdAndRevisionBetweenOrderByRevisionAsc(
+                    target.getResumeId(), Range.closed(snapshot.getRevision(), target.getRevision()))) {
+                byRevision.put(entry.getRevision(), entry);
+            }
+
+            // Step 2: Follow base links back to the snapshot
+            Deque<ResumeRevision> chain = new ArrayDeque<>();
+            ResumeRevision entry = target;
+            while (ResumeRevision.DELTA.equals(entry.getType())) {
+                chain.push(entry);
+                entry = byRevision.get(entry.getBaseRevision());
+                if (entry == null) {
+                    throw new IllegalStateException(
+                            "History of resume " + target.getResumeId() + " is incomplete");
+                }
+            }
+
+            // Step 3: Replay deltas forward
+            JsonNode content = parse(entry.getData());
+            while (!chain.isEmpty()) {
+                content = JsonPatch.apply(parse(chain.pop().getData()), content);
+            }
+            return content;
+        });
+    }
+
+    private JsonNode parse(String json) {
+        try {
+            return objectMapper.readTree(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Corrupt resume revision", e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
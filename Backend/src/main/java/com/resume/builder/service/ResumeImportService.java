@@ -0,0 +1,391 @@
+package com.resume.builder.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.StreamReadConstraints;
+import com.fasterxml.jackson.core.exc.StreamConstraintsException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.mongodb.bulk.BulkWriteError;
+import com.resume.builder.document.Resume;
+import com.resume.builder.dto.ResumeImportResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Bulk import of resumes from a JSON array or NDJSON stream.
+ * Records are read one at a time with a streaming parser, mapped and
+ * validated, and inserted with one unordered bulk write per batch, so
+ * memory holds at most one batch however large the file is. A record is
+ * buffered as tokens and only turned into a tree once it is known to fit
+ * max-record-bytes, so one oversized record can't exhaust the heap. Invalid or
+ * unsaveable records are reported and skipped; the rest of the file is
+ * still imported.
+ *
+ * Unlike a single create, an import doesn't queue thumbnails or history
+ * captures: thousands of records would fill both shared queues and crowd
+ * out interactive edits. The dashboard shows a placeholder until the first
+ * edit renders the thumbnail, and that edit also starts the history.
+ *
+ * Each record may be a JSON Resume document or a resume in this API's own
+ * shape (as written by the NDJSON export).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ResumeImportService {
+
+    private static final int MAX_REPORTED_ERRORS = 100;
+    private static final int MAX_TITLE_LENGTH = 200;
+    private static final int MAX_SECTION_ITEMS = 100;
+
+    private final MongoTemplate mongoTemplate;
+    private final ObjectMapper objectMapper;
+    private final JsonResumeMapper jsonResumeMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${resume.import.batch-size:500}")
+    private int batchSize;
+
+    @Value("${resume.import.max-records:10000}")
+    private int maxRecords;
+
+    // Well below MongoDB's 16MB document limit
+    @Value("${resume.import.max-record-bytes:1048576}")
+    private int maxRecordBytes;
+
+    private JsonFactory jsonFactory;
+
+    private Counter importedCounter;
+    private Counter failedCounter;
+    private Timer importTimer;
+
+    @PostConstruct
+    void init() {
+        importedCounter = meterRegistry.counter("resume.import.records", "result", "imported");
+        failedCounter = meterRegistry.counter("resume.import.records", "result", "failed");
+        importTimer = meterRegistry.timer("resume.import.latency");
+
+        // A single string can't be longer than a whole record
+        jsonFactory = objectMapper.getFactory().copy();
+        jsonFactory.setStreamReadConstraints(StreamReadConstraints.builder()
+                .maxStringLength(maxRecordBytes)
+                .build());
+        jsonFactory.setCodec(objectMapper);
+    }
+
+    /**
+     * Collects counts and a bounded list of errors.
+     */
+    private static final class Report {
+
+        private int imported;
+        private int failed;
+        private final List<ResumeImportResult.RecordError> errors = new ArrayList<>();
+
+        void fail(int index, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ResumeImportResult.RecordError(index, message));
+            }
+        }
+
+        ResumeImportResult toResult() {
+            return ResumeImportResult.builder()
+                    .imported(imported)
+                    .failed(failed)
+                    .errors(errors)
+                    .errorsTruncated(failed > errors.size())
+                    .build();
+        }
+    }
+
+    /**
+     * Import all records of the stream for the given user.
+     */
+    public ResumeImportResult importResumes(String userId, InputStream in) throws IOException {
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Report report = new Report();
+
+        List<Resume> batch = new ArrayList<>(batchSize);
+        List<Integer> batchIndexes = new ArrayList<>(batchSize);
+        int index = 0;
+
+        try (JsonParser parser = jsonFactory.createParser(in)) {
+
+            // Step 1: "[ {...}, {...} ]" or "{...}\n{...}" (root-level sequence)
+            JsonToken token = parser.nextToken();
+            boolean array = token == JsonToken.START_ARRAY;
+            if (array) {
+                token = parser.nextToken();
+            }
+
+            try {
+                while (token != null && token != JsonToken.END_ARRAY) {
+
+                    if (index >= maxRecords) {
+                        report.fail(index, "Import is limited to " + maxRecords
+                                + " records; the rest of the file was skipped");
+                        break;
+                    }
+
+                    // Step 2: One record at a time, size-checked before mapping
+                    JsonNode node = readRecord(parser);
+                    try {
+                        if (node == null) {
+                            throw new IllegalArgumentException(
+                                    "Record is larger than " + maxRecordBytes + " bytes");
+                        }
+                        batch.add(toResume(node, userId));
+                        batchIndexes.add(index);
+                    } catch (IllegalArgumentException e) {
+                        report.fail(index, e.getMessage());
+                    }
+                    index++;
+
+                    // Step 3: One bulk write per full batch
+                    if (batch.size() >= batchSize) {
+                        insertBatch(batch, batchIndexes, report);
+                    }
+
+                    token = parser.nextToken();
+                }
+            } catch (StreamConstraintsException e) {
+                // Parser can't resume inside an oversized value
+                report.fail(index, "Record is larger than " + maxRecordBytes
+                        + " bytes; the rest of the file was skipped");
+            } catch (JsonProcessingException e) {
+                // Position in the file is lost after a syntax error
+                report.fail(index, "Malformed JSON at line "
+                        + e.getLocation().getLineNr() + "; the rest of the file was skipped");
+            }
+        } catch (JsonProcessingException e) {
+            report.fail(index, "Input is not JSON or NDJSON");
+        }
+
+        insertBatch(batch, batchIndexes, report);
+
+        sample.stop(importTimer);
+        importedCounter.increment(report.imported);
+        failedCounter.increment(report.failed);
+
+        log.info("Resume import finished. UserId={}, Imported={}, Failed={}",
+                userId, report.imported, report.failed);
+
+        return report.toResult();
+    }
+
+    /**
+     * Read the record at the parser's current token.
+     *
+     * @return the record, or null if it is larger than max-record-bytes
+     * (the parser is then positioned at its last token)
+     */
+    private JsonNode readRecord(JsonParser parser) throws IOException {
+
+        long start = parser.currentTokenLocation().getByteOffset();
+        int depth = 0;
+
+        try (TokenBuffer buffer = new TokenBuffer(parser)) {
+            do {
+                JsonToken token = parser.currentToken();
+                if (token.isStructStart()) {
+                    depth++;
+                } else if (token.isStructEnd()) {
+                    depth--;
+                }
+
+                if (parser.currentLocation().getByteOffset() - start > maxRecordBytes) {
+                    // Skip the rest without buffering it
+                    while (depth > 0) {
+                        token = parser.nextToken();
+                        if (token == null) {
+                            break;
+                        }
+                        if (token.isStructStart()) {
+                            depth++;
+                        } else if (token.isStructEnd()) {
+                            depth--;
+                        }
+                    }
+                    return null;
+                }
+
+                buffer.copyCurrentEvent(parser);
+            } while (depth > 0 && parser.nextToken() != null);
+
+            try (JsonParser recordParser = buffer.asParser(objectMapper)) {
+                recordParser.nextToken();
+                return recordParser.readValueAsTree();
+            }
+        }
+    }
+
+    private void insertBatch(List<Resume> batch, List<Integer> batchIndexes, Report report) {
+
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        // Unordered: one bad document doesn't stop the others, and each
+        // write error carries the position of its document in the batch
+        Set<Integer> failedPositions = new HashSet<>();
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Resume.class)
+                    .insert(batch)
+                    .execute();
+        } catch (BulkOperationException e) {
+            for (BulkWriteError error : e.getErrors()) {
+                failedPositions.add(error.getIndex());
+                report.fail(batchIndexes.get(error.getIndex()), error.getCode() == 11000
+                        ? "Duplicate resume"
+                        : "Could not be saved");
+            }
+        } catch (Exception e) {
+            log.error("Resume import batch of {} failed", batch.size(), e);
+            batchIndexes.forEach(index -> report.fail(index, "Could not be saved"));
+            failedPositions = null;
+        }
+
+        if (failedPositions != null) {
+            report.imported += batch.size() - failedPositions.size();
+        }
+
+        batch.clear();
+        batchIndexes.clear();
+    }
+
+    /**
+     * Map and validate one record.
+     *
+     * @throws IllegalArgumentException with a user-facing reason
+     */
+    private Resume toResume(JsonNode node, String userId) {
+
+        if (!node.isObject()) {
+            throw new IllegalArgumentException("Record must be a JSON object");
+        }
+
+        // Step 1: JSON Resume, or this API's own resume shape
+        Resume source = isJsonResume(node)
+                ? jsonResumeMapper.fromJsonResume(node)
+                : readNative(node);
+
+        // Step 2: Copy content only (never ids, owner, version, thumbnails).
+        // Bulk writes don't assign ids or initialise @Version, so do it here
+        Resume resume = new Resume();
+        resume.setId(new ObjectId().toHexString());
+        resume.setVersion(0L);
+        resume.setUserId(userId);
+        resume.setTitle(source.getTitle());
+        resume.setTemplate(source.getTemplate());
+        resume.setProfileInfo(source.getProfileInfo());
+        resume.setContactInfo(source.getContactInfo());
+        resume.setWorkExperience(orEmpty(source.getWorkExperience()));
+        resume.setEducation(orEmpty(source.getEducation()));
+        resume.setSkills(orEmpty(source.getSkills()));
+        resume.setProjects(orEmpty(source.getProjects()));
+        resume.setCertifications(orEmpty(source.getCertifications()));
+        resume.setLanguages(orEmpty(source.getLanguages()));
+        resume.setInterests(orEmpty(source.getInterests()));
+
+        if (resume.getProfileInfo() == null) {
+            resume.setProfileInfo(new Resume.ProfileInfo());
+        }
+        if (resume.getContactInfo() == null) {
+            resume.setContactInfo(new Resume.ContactInfo());
+        }
+        if (resume.getTemplate() == null || resume.getTemplate().getTheme() == null) {
+            resume.setTemplate(Resume.Template.builder()
+                    .theme(JsonResumeMapper.DEFAULT_THEME)
+                    .colorPalette(resume.getTemplate() == null ? null : resume.getTemplate().getColorPalette())
+                    .build());
+        }
+
+        // Step 3: Title falls back to the person's headline
+        if (resume.getTitle() == null || resume.getTitle().isBlank()) {
+            String designation = resume.getProfileInfo().getDesignation();
+            resume.setTitle(designation != null && !designation.isBlank()
+                    ? designation
+                    : "Imported resume");
+        }
+
+        validate(resume);
+        return resume;
+    }
+
+    private static boolean isJsonResume(JsonNode node) {
+        return node.has("basics") || node.has("work") || node.has("$schema")
+                || (node.has("meta") && !node.has("profileInfo"));
+    }
+
+    private Resume readNative(JsonNode node) {
+        try {
+            return objectMapper.treeToValue(node, Resume.class);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Record does not match the resume format");
+        }
+    }
+
+    private static void validate(Resume resume) {
+
+        if (resume.getTitle().length() > MAX_TITLE_LENGTH) {
+            throw new IllegalArgumentException(
+                    "Title must be at most " + MAX_TITLE_LENGTH + " characters");
+        }
+
+        checkSize("work", resume.getWorkExperience());
+        checkSize("education", resume.getEducation());
+        checkSize("skills", resume.getSkills());
+        checkSize("projects", resume.getProjects());
+        checkSize("certificates", resume.getCertifications());
+        checkSize("languages", resume.getLanguages());
+        checkSize("interests", resume.getInterests());
+
+        for (Resume.Skill skill : resume.getSkills()) {
+            checkProgress("skill", skill.getProgress());
+        }
+        for (Resume.Language language : resume.getLanguages()) {
+            checkProgress("language", language.getProgress());
+        }
+    }
+
+    private static void checkSize(String section, List<?> items) {
+        if (items.size() > MAX_SECTION_ITEMS) {
+            throw new IllegalArgumentException(
+                    "Section " + section + " has more than " + MAX_SECTION_ITEMS + " entries");
+        }
+    }
+
+    private static void checkProgress(String kind, Integer progress) {
+        if (progress != null && (progress < 0 || progress > 100)) {
+            throw new IllegalArgumentException(
+                    "Each " + kind + " level must be between 0 and 100");
+        }
+    }
+
+    private static <T> List<T> orEmpty(List<T> items) {
+        return items == null ? new ArrayList<>() : items;
+    }
+}
@@ -0,0 +1,433 @@
+package com.resume.builder.service;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.flipkart.zjsonpatch.JsonPatch;
+import com.flipkart.zjsonpatch.JsonPatchApplicationException;
+import com.flipkart.zjsonpatch.Operation;
+import com.resume.builder.document.Resume;
+import com.resume.builder.exception.InvalidPatchException;
+import com.resume.builder.exception.PatchConflictException;
+import com.resume.builder.exception.PreconditionFailedException;
+import com.resume.builder.security.CurrentUserContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Applies PATCH requests to a resume.
+ * JSON Merge Patch (RFC 7396) is translated into one targeted update
+ * ($set / $unset) filtered on _id + userId, without reading the resume.
+ * JSON Patch (RFC 6902) is applied to the loaded resume, so array indexes,
+ * "test" and out-of-range errors follow the RFC exactly; only the changed
+ * top-level fields are written back, guarded by the version that was read.
+ * Paths and values are checked against the Resume class, so only known
+ * fields with well-typed values reach MongoDB.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ResumePatchService {
+
+    public static final String MERGE_PATCH = "application/merge-patch+json";
+    public static final String JSON_PATCH = "application/json-patch+json";
+
+    // Top-level fields a client may change (no ids, owner, timestamps, thumbnail)
+    private static final Set<String> PATCHABLE = Set.of(
+            "title", "template", "profileInfo", "contactInfo",
+            "workExperience", "education", "skills", "projects",
+            "certifications", "languages", "interests"
+    );
+
+    // Fields drawn on the thumbnail
+    private static final Set<String> VISUAL = Set.of(
+            "title", "template", "profileInfo", "workExperience",
+            "education", "skills", "projects", "certifications"
+    );
+
+    // Re-reads after a concurrent write when the client sent no If-Match
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final MongoTemplate mongoTemplate;
+    private final ObjectMapper objectMapper;
+    private final CurrentUserContext currentUserContext;
+    private final ResumeThumbnailService resumeThumbnailService;
+    private final ResumeHistoryService resumeHistoryService;
+
+    /**
+     * Translated merge patch: the update and the fields touched.
+     */
+    private static final class Translation {
+        final Update update = new Update();
+        final List<String> paths = new ArrayList<>();
+        final Set<String> roots = new HashSet<>();
+
+        boolean overlaps(String path) {
+            for (String other : paths) {
+                if (other.equals(path)
+                        || other.startsWith(path + ".")
+                        || path.startsWith(other + ".")) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void touch(List<String> segments) {
+            String path = String.join(".", segments);
+            if (overlaps(path)) {
+                throw new InvalidPatchException(
+                        "Conflicting operations on '" + path + "'; send them in separate requests");
+            }
+            paths.add(path);
+            roots.add(segments.get(0));
+        }
+    }
+
+    /**
+     * @param expectedVersion version from If-Match, or null to skip the check
+     * @return the new version, or null if the patch changed nothing
+     */
+    public Long patch(String resumeId, JsonNode patch, boolean jsonPatch, Long expectedVersion) {
+        return jsonPatch
+                ? applyJsonPatch(resumeId, patch, expectedVersion)
+                : applyMergePatch(resumeId, patch, expectedVersion);
+    }
+
+    private Long applyMergePatch(String resumeId, JsonNode patch, Long expectedVersion) {
+
+        // Step 1: Translate patch → update
+        Translation translation = fromMergePatch(patch);
+        if (translation.paths.isEmpty()) {
+            return null;
+        }
+
+        // Step 2: Single write, scoped to the owner (and version, if given)
+        Query query = Query.query(owner(resumeId));
+        if (expectedVersion != null) {
+            query.addCriteria(Criteria.where("version").is(expectedVersion));
+        }
+
+        Long version = write(query, translation.update);
+        if (version == null) {
+            throw failure(resumeId, expectedVersion);
+        }
+
+        afterWrite(resumeId, translation.roots);
+        log.debug("Resume {} merge-patched: {}", resumeId, translation.paths);
+        return version;
+    }
+
+    private Long applyJsonPatch(String resumeId, JsonNode patch, Long expectedVersion) {
+
+        // Step 1: Check every operation against the Resume class up front
+        validateJsonPatch(patch);
+
+        for (int attempt = 1; ; attempt++) {
+
+            // Step 2: Load the patchable fields
+            Query read = Query.query(owner(resumeId));
+            PATCHABLE.forEach(read.fields()::include);
+            read.fields().include("version");
+
+            Resume current = mongoTemplate.findOne(read, Resume.class);
+            if (current == null) {
+                throw new RuntimeException("Resume not found");
+            }
+            long currentVersion = Objects.requireNonNullElse(current.getVersion(), 0L);
+            if (expectedVersion != null && expectedVersion != currentVersion) {
+                throw new PreconditionFailedException(
+                        "Resume is at version " + currentVersion + ", not " + expectedVersion);
+            }
+
+            // Step 3: Apply to the document (RFC 6902 array and "test" semantics)
+            JsonNode before = resumeHistoryService.contentOf(current);
+            JsonNode after;
+            try {
+                after = JsonPatch.apply(patch, before);
+            } catch (JsonPatchApplicationException e) {
+                if (e.getOperation() == Operation.TEST) {
+                    throw new PatchConflictException("Patch test failed at '" + e.getPath() + "'");
+                }
+                // e.g. array index out of range, missing parent
+                throw new InvalidPatchException(e.getMessage());
+            }
+
+            // Step 4: Write back only the top-level fields that changed
+            Update update = new Update();
+            Set<String> roots = new HashSet<>();
+            JavaType resumeType = typeOf(Resume.class);
+            for (String field : PATCHABLE) {
+                JsonNode value = after.has(field) ? after.get(field) : NullNode.getInstance();
+                if (!value.equals(before.path(field))) {
+                    roots.add(field);
+                    update.set(field, toMongo(value, fieldType(resumeType, List.of(field))));
+                }
+            }
+            if (roots.isEmpty()) {
+                return null;
+            }
+
+            // Step 5: Only if nobody wrote since Step 2
+            Query guarded = Query.query(owner(resumeId)
+                    .and("version").is(current.getVersion()));
+
+            Long version = write(guarded, update);
+            if (version != null) {
+                afterWrite(resumeId, roots);
+                log.debug("Resume {} patched: {}", resumeId, roots);
+                return version;
+            }
+
+            // Changed concurrently: the client's If-Match no longer holds, else re-apply
+            if (expectedVersion != null || attempt >= MAX_ATTEMPTS) {
+                throw failure(resumeId, expectedVersion != null ? expectedVersion : current.getVersion());
+            }
+        }
+    }
+
+    private Criteria owner(String resumeId) {
+        return Criteria.where("_id").is(resumeId)
+                .and("userId").is(currentUserContext.getUserId());
+    }
+
+    /**
+     * @return the new version, or null if the query matched nothing
+     */
+    private Long write(Query query, Update update) {
+
+        query.fields().include("version");
+        update.set("updatedAt", LocalDateTime.now())
+                .inc("version", 1);
+
+        Resume updated = mongoTemplate.findAndModify(
+                query,
+                update,
+                FindAndModifyOptions.options().returnNew(true),
+                Resume.class
+        );
+        return updated == null ? null : updated.getVersion();
+    }
+
+    private void afterWrite(String resumeId, Set<String> roots) {
+
+        // Thumbnail only depends on some fields
+        if (!Collections.disjoint(roots, VISUAL)) {
+            resumeThumbnailService.refresh(resumeId);
+        }
+        resumeHistoryService.record(resumeId);
+    }
+
+    /**
+     * Work out why nothing matched: missing resume or stale version.
+     */
+    private RuntimeException failure(String resumeId, Long expectedVersion) {
+
+        Query query = Query.query(owner(resumeId));
+        query.fields().include("version");
+        Resume current = mongoTemplate.findOne(query, Resume.class);
+
+        if (current == null) {
+            return new RuntimeException("Resume not found");
+        }
+        return new PreconditionFailedException(
+                "Resume is at version " + current.getVersion() + ", not " + expectedVersion);
+    }
+
+    // =====================
+    // JSON MERGE PATCH
+    // =====================
+
+    private Translation fromMergePatch(JsonNode patch) {
+
+        if (patch == null || !patch.isObject()) {
+            throw new InvalidPatchException("Merge patch must be a JSON object");
+        }
+
+        Translation translation = new Translation();
+        merge(patch, new ArrayList<>(), typeOf(Resume.class), translation);
+        return translation;
+    }
+
+    private void merge(JsonNode patch, List<String> parent, JavaType parentType, Translation translation) {
+
+        Iterator<Map.Entry<String, JsonNode>> fields = patch.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+
+            List<String> segments = append(parent, field.getKey());
+            JavaType type = fieldType(parentType, segments);
+            JsonNode value = field.getValue();
+
+            if (value.isObject() && isNested(type)) {
+                // Recurse → $set profileInfo.summary instead of the whole object
+                merge(value, segments, type, translation);
+            } else if (value.isNull()) {
+                translation.touch(segments);
+                translation.update.unset(String.join(".", segments));
+            } else {
+                translation.touch(segments);
+                translation.update.set(String.join(".", segments), toMongo(value, type));
+            }
+        }
+    }
+
+    // =====================
+    // JSON PATCH
+    // =====================
+
+    /**
+     * Reject unsupported operations, unknown or read-only fields and
+     * mistyped values before the resume is read.
+     */
+    private void validateJsonPatch(JsonNode patch) {
+
+        if (patch == null || !patch.isArray()) {
+            throw new InvalidPatchException("JSON Patch must be an array of operations");
+        }
+
+        for (JsonNode operation : patch) {
+            String op = operation.path("op").asText("");
+            List<String> segments = parsePointer(operation.path("path").asText(null));
+            JsonNode value = operation.get("value");
+
+            switch (op) {
+                case "add" -> {
+                    requireValue(op, value);
+                    List<String> parent = segments.subList(0, segments.size() - 1);
+                    JavaType type;
+                    if ("-".equals(segments.get(segments.size() - 1))) {
+                        // Append: the parent must be an array
+                        JavaType parentType = parent.isEmpty() ? typeOf(Resume.class) : resolve(parent);
+                        if (!parentType.isCollectionLikeType()) {
+                            throw new InvalidPatchException(
+                                    "'-' is only valid for arrays: '" + String.join("/", segments) + "'");
+                        }
+                        type = parentType.getContentType();
+                    } else {
+                        type = resolve(segments);
+                    }
+                    toMongo(value, type);
+                }
+                case "replace", "test" -> {
+                    requireValue(op, value);
+                    toMongo(value, resolve(segments));
+                }
+                case "remove" -> resolve(segments);
+                default -> throw new InvalidPatchException(
+                        "Unsupported operation '" + op + "'");
+            }
+        }
+    }
+
+    /**
+     * RFC 6901 pointer → path segments.
+     */
+    private static List<String> parsePointer(String pointer) {
+
+        if (pointer == null || !pointer.startsWith("/") || pointer.length() < 2) {
+            throw new InvalidPatchException("Invalid path '" + pointer + "'");
+        }
+
+        List<String> segments = new ArrayList<>();
+        for (String raw : pointer.substring(1).split("/", -1)) {
+            segments.add(raw.replace("~1", "/").replace("~0", "~"));
+        }
+        return segments;
+    }
+
+    private static void requireValue(String op, JsonNode value) {
+        if (value == null) {
+            throw new InvalidPatchException("'" + op + "' requires a value");
+        }
+    }
+
+    private static int index(String segment) {
+        try {
+            int index = Integer.parseInt(segment);
+            if (index >= 0) {
+                return index;
+            }
+        } catch (NumberFormatException ignored) {
+            // fall through
+        }
+        throw new InvalidPatchException("Invalid array index '" + segment + "'");
+    }
+
+    // =====================
+    // TYPES
+    // =====================
+
+    /**
+     * Java type at a path, walking Resume fields and list elements.
+     */
+    private JavaType resolve(List<String> segments) {
+
+        JavaType type = typeOf(Resume.class);
+        for (int i = 0; i < segments.size(); i++) {
+            List<String> prefix = segments.subList(0, i + 1);
+            if (type.isCollectionLikeType()) {
+                index(segments.get(i));
+                type = type.getContentType();
+            } else {
+                type = fieldType(type, prefix);
+            }
+        }
+        return type;
+    }
+
+    private JavaType fieldType(JavaType owner, List<String> segments) {
+
+        String name = segments.get(segments.size() - 1);
+        if (segments.size() == 1 && !PATCHABLE.contains(name)) {
+            throw new InvalidPatchException("Field '" + name + "' cannot be patched");
+        }
+        if (!isNested(owner) && owner.getRawClass() != Resume.class) {
+            throw new InvalidPatchException("Invalid path '" + String.join("/", segments) + "'");
+        }
+
+        try {
+            Field field = owner.getRawClass().getDeclaredField(name);
+            return objectMapper.getTypeFactory().constructType(field.getGenericType());
+        } catch (NoSuchFieldException e) {
+            throw new InvalidPatchException("Unknown field '" + String.join("/", segments) + "'");
+        }
+    }
+
+    private Object toMongo(JsonNode value, JavaType type) {
+
+        Object typed;
+        try {
+            typed = objectMapper.convertValue(value, type);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidPatchException("Invalid value for " + type.getRawClass().getSimpleName());
+        }
+        return mongoTemplate.getConverter().convertToMongoType(typed);
+    }
+
+    private JavaType typeOf(Class<?> type) {
+        return objectMapper.getTypeFactory().constructType(type);
+    }
+
+    private static boolean isNested(JavaType type) {
+        return type.getRawClass().getEnclosingClass() == Resume.class;
+    }
+
+    private static List<String> append(List<String> parent, String name) {
+        List<String> segments = new ArrayList<>(parent.size() + 1);
+        segments.addAll(parent);
+        segments.add(name);
+        return segments;
+    }
+}
@@ -0,0 +1,366 @@
+package com.resume.builder.service;
+
+import com.lowagie.text.Chunk;
+import com.lowagie.text.Document;
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.Element;
+import com.lowagie.text.Font;
+import com.lowagie.text.FontFactory;
+import com.lowagie.text.PageSize;
+import com.lowagie.text.Paragraph;
+import com.lowagie.text.pdf.PdfWriter;
+import com.lowagie.text.pdf.draw.LineSeparator;
+import com.resume.builder.document.Resume;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.awt.Color;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Renders a Resume into an A4 PDF with OpenPDF.
+ * Layout is shared by all themes; a theme picks the font family and accent
+ * colour (template.colorPalette[0] overrides the accent, like the preview).
+ * Bump VERSION whenever the output changes so cached PDFs are not reused.
+ */
+@Component
+@Slf4j
+public class ResumePdfRenderer {
+
+    public static final int VERSION = 1;
+
+    private static final String DEFAULT_THEME = "Classic Blue";
+
+    private static final Color TEXT = new Color(0x1f, 0x29, 0x37);
+    private static final Color MUTED = new Color(0x4b, 0x55, 0x63);
+
+    record Theme(String family, Color accent) {
+
+        boolean serif() {
+            return FontFactory.TIMES_ROMAN.equals(family);
+        }
+    }
+
+    // Same names as TemplatesService / the frontend theme picker
+    private static final Map<String, Theme> THEMES = Map.of(
+            "Classic Blue", new Theme(FontFactory.HELVETICA, new Color(0x1e, 0x40, 0xaf)),
+            "ATS Clean", new Theme(FontFactory.HELVETICA, new Color(0x11, 0x18, 0x27)),
+            "Modern Navy", new Theme(FontFactory.HELVETICA, new Color(0x1e, 0x3a, 0x8a)),
+            "Minimal Grey", new Theme(FontFactory.HELVETICA, new Color(0x4b, 0x55, 0x63)),
+            "Accent Orange", new Theme(FontFactory.HELVETICA, new Color(0xea, 0x58, 0x0c)),
+            "Academic Grey", new Theme(FontFactory.TIMES_ROMAN, new Color(0x37, 0x41, 0x51)),
+            "Tech Serif", new Theme(FontFactory.TIMES_ROMAN, new Color(0x11, 0x18, 0x27))
+    );
+
+    /**
+     * Fonts for one render, derived from the theme.
+     */
+    private record Style(
+            Font name,
+            Font designation,
+            Font section,
+            Font heading,
+            Font body,
+            Font muted,
+            Color accent
+    ) {
+        static Style of(Theme theme) {
+            String family = theme.family();
+            return new Style(
+                    FontFactory.getFont(family, 22, Font.BOLD, theme.accent()),
+                    FontFactory.getFont(family, 13, Font.NORMAL, MUTED),
+                    FontFactory.getFont(family, 12, Font.BOLD, theme.accent()),
+                    FontFactory.getFont(family, 10.5f, Font.BOLD, TEXT),
+                    FontFactory.getFont(family, 10, Font.NORMAL, TEXT),
+                    FontFactory.getFont(family, 9, Font.ITALIC, MUTED),
+                    theme.accent()
+            );
+        }
+    }
+
+    public byte[] render(Resume resume) {
+
+        Style style = Style.of(resolveTheme(resume.getTemplate()));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16 * 1024);
+        Document document = new Document(PageSize.A4, 42, 42, 36, 36);
+
+        try {
+            PdfWriter.getInstance(document, out);
+            document.addTitle(Objects.requireNonNullElse(resume.getTitle(), "Resume"));
+            document.addCreator("ResumeBuilder");
+            document.open();
+
+            writeHeader(document, resume, style);
+            writeSummary(document, resume.getProfileInfo(), style);
+            writeWorkExperience(document, resume.getWorkExperience(), style);
+            writeEducation(document, resume.getEducation(), style);
+            writeProjects(document, resume.getProjects(), style);
+            writeSkills(document, resume, style);
+            writeCertifications(document, resume.getCertifications(), style);
+            writeInterests(document, resume.getInterests(), style);
+
+        } catch (DocumentException e) {
+            throw new RuntimeException("Failed to render resume PDF", e);
+        } finally {
+            if (document.isOpen()) {
+                document.close();
+            }
+        }
+
+        return out.toByteArray();
+    }
+
+    /**
+     * Theme for a template; shared with the thumbnail renderer.
+     */
+    static Theme resolveTheme(Resume.Template template) {
+
+        String name = (template != null && hasText(template.getTheme()))
+                ? template.getTheme()
+                : DEFAULT_THEME;
+        Theme theme = THEMES.getOrDefault(name, THEMES.get(DEFAULT_THEME));
+
+        // Custom palette from the editor wins over the theme accent
+        if (template != null && template.getColorPalette() != null
+                && !template.getColorPalette().isEmpty()) {
+            Color accent = parseColor(template.getColorPalette().get(0));
+            if (accent != null) {
+                theme = new Theme(theme.family(), accent);
+            }
+        }
+        return theme;
+    }
+
+    private static Color parseColor(String hex) {
+        if (hex == null || !hex.matches("#?[0-9a-fA-F]{6}")) {
+            return null;
+        }
+        return new Color(Integer.parseInt(hex.startsWith("#") ? hex.substring(1) : hex, 16));
+    }
+
+    // =====================
+    // SECTIONS
+    // =====================
+
+    private void writeHeader(Document document, Resume resume, Style style) {
+
+        Resume.ProfileInfo profile = resume.getProfileInfo();
+        String fullName = profile != null && hasText(profile.getFullName())
+                ? profile.getFullName()
+                : Objects.requireNonNullElse(resume.getTitle(), "Resume");
+
+        document.add(new Paragraph(fullName, style.name()));
+
+        if (profile != null && hasText(profile.getDesignation())) {
+            document.add(new Paragraph(profile.getDesignation(), style.designation()));
+        }
+
+        Resume.ContactInfo contact = resume.getContactInfo();
+        if (contact != null) {
+            String line = joinNonBlank("  |  ",
+                    contact.getEmail(),
+                    contact.getPhone(),
+                    contact.getLocation(),
+                    contact.getLinkedIn(),
+                    contact.getGithub(),
+                    contact.getWebsite());
+            if (!line.isEmpty()) {
+                Paragraph contactLine = new Paragraph(line, style.muted());
+                contactLine.setSpacingBefore(4);
+                document.add(contactLine);
+            }
+        }
+
+        document.add(separator(style.accent(), 1.5f));
+    }
+
+    private void writeSummary(Document document, Resume.ProfileInfo profile, Style style) {
+
+        if (profile == null || !hasText(profile.getSummary())) {
+            return;
+        }
+        section(document, "Summary", style);
+        document.add(new Paragraph(profile.getSummary(), style.body()));
+    }
+
+    private void writeWorkExperience(Document document, List<Resume.WorkExperience> items, Style style) {
+
+        if (isEmpty(items)) {
+            return;
+        }
+        section(document, "Experience", style);
+
+        for (Resume.WorkExperience item : items) {
+            entry(document,
+                    joinNonBlank(" — ", item.getRole(), item.getCompany()),
+                    dateRange(item.getStartDate(), item.getEndDate()),
+                    item.getDescription(),
+                    style);
+        }
+    }
+
+    private void writeEducation(Document document, List<Resume.Education> items, Style style) {
+
+        if (isEmpty(items)) {
+            return;
+        }
+        section(document, "Education", style);
+
+        for (Resume.Education item : items) {
+            entry(document,
+                    joinNonBlank(" — ", item.getDegree(), item.getInstitution()),
+                    dateRange(item.getStartDate(), item.getEndDate()),
+                    null,
+                    style);
+        }
+    }
+
+    private void writeProjects(Document document, List<Resume.Project> items, Style style) {
+
+        if (isEmpty(items)) {
+            return;
+        }
+        section(document, "Projects", style);
+
+        for (Resume.Project item : items) {
+            entry(document,
+                    item.getTitle(),
+                    joinNonBlank("  |  ", item.getGithub(), item.getLiveDemo()),
+                    item.getDescription(),
+                    style);
+        }
+    }
+
+    private void writeSkills(Document document, Resume resume, Style style) {
+
+        String skills = isEmpty(resume.getSkills()) ? "" : resume.getSkills().stream()
+                .map(skill -> withProgress(skill.getName(), skill.getProgress()))
+                .filter(ResumePdfRenderer::hasText)
+                .collect(Collectors.joining(", "));
+
+        String languages = isEmpty(resume.getLanguages()) ? "" : resume.getLanguages().stream()
+                .map(language -> withProgress(language.getName(), language.getProgress()))
+                .filter(ResumePdfRenderer::hasText)
+                .collect(Collectors.joining(", "));
+
+        if (skills.isEmpty() && languages.isEmpty()) {
+            return;
+        }
+        section(document, "Skills", style);
+
+        if (!skills.isEmpty()) {
+            document.add(new Paragraph(skills, style.body()));
+        }
+        if (!languages.isEmpty()) {
+            Paragraph paragraph = new Paragraph();
+            paragraph.add(new Chunk("Languages: ", style.heading()));
+            paragraph.add(new Chunk(languages, style.body()));
+            paragraph.setSpacingBefore(3);
+            document.add(paragraph);
+        }
+    }
+
+    private void writeCertifications(Document document, List<Resume.Certification> items, Style style) {
+
+        if (isEmpty(items)) {
+            return;
+        }
+        section(document, "Certifications", style);
+
+        for (Resume.Certification item : items) {
+            entry(document,
+                    joinNonBlank(" — ", item.getTitle(), item.getIssuer()),
+                    item.getYear(),
+                    null,
+                    style);
+        }
+    }
+
+    private void writeInterests(Document document, List<String> interests, Style style) {
+
+        String line = isEmpty(interests) ? "" : joinNonBlank(", ", interests.toArray(String[]::new));
+        if (line.isEmpty()) {
+            return;
+        }
+        section(document, "Interests", style);
+        document.add(new Paragraph(line, style.body()));
+    }
+
+    // =====================
+    // BUILDING BLOCKS
+    // =====================
+
+    private void section(Document document, String title, Style style) {
+
+        Paragraph heading = new Paragraph(title.toUpperCase(), style.section());
+        heading.setSpacingBefore(12);
+        document.add(heading);
+        document.add(separator(style.accent(), 0.5f));
+    }
+
+    private void entry(Document document, String title, String meta, String description, Style style) {
+
+        Paragraph line = new Paragraph();
+        line.setSpacingBefore(5);
+        if (hasText(title)) {
+            line.add(new Chunk(title, style.heading()));
+        }
+        if (hasText(meta)) {
+            line.add(new Chunk(hasText(title) ? "   " + meta : meta, style.muted()));
+        }
+        if (!line.isEmpty()) {
+            document.add(line);
+        }
+
+        if (hasText(description)) {
+            Paragraph body = new Paragraph(description, style.body());
+            body.setAlignment(Element.ALIGN_JUSTIFIED);
+            body.setSpacingBefore(2);
+            document.add(body);
+        }
+    }
+
+    private static Chunk separator(Color color, float width) {
+        LineSeparator line = new LineSeparator(width, 100, color, Element.ALIGN_CENTER, -4);
+        return new Chunk(line);
+    }
+
+    private static String dateRange(String start, String end) {
+        if (!hasText(start) && !hasText(end)) {
+            return null;
+        }
+        return Objects.requireNonNullElse(start, "") + " – "
+                + (hasText(end) ? end : "Present");
+    }
+
+    private static String withProgress(String name, Integer progress) {
+        if (!hasText(name)) {
+            return null;
+        }
+        return (progress == null || progress <= 0) ? name : name + " (" + progress + "%)";
+    }
+
+    private static String joinNonBlank(String delimiter, String... values) {
+        List<String> parts = new ArrayList<>(values.length);
+        for (String value : values) {
+            if (hasText(value)) {
+                parts.add(value.trim());
+            }
+        }
+        return String.join(delimiter, parts);
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private static boolean isEmpty(List<?> items) {
+        return items == null || items.isEmpty();
+    }
+}
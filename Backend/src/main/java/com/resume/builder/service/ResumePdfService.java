@@ -0,0 +1,161 @@
+package com.resume.builder.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resume.builder.document.Resume;
+import com.resume.builder.repository.ResumeRepository;
+import com.resume.builder.security.CurrentUserContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Server-side resume PDFs.
+ * Rendered bytes are cached under a SHA-256 of everything the renderer
+ * reads (content + theme + renderer version), so unchanged resumes are
+ * served without rendering and any edit naturally misses.
+ * The cache is LRU bounded by total bytes.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ResumePdfService {
+
+    private final ResumeRepository resumeRepository;
+    private final CurrentUserContext currentUserContext;
+    private final ResumePdfRenderer renderer;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${resume.pdf.cache.max-bytes:33554432}")
+    private long maxCacheBytes;
+
+    // Guarded by "this"
+    private final LinkedHashMap<String, byte[]> cache =
+            new LinkedHashMap<>(64, 0.75f, true);
+    private long cachedBytes;
+
+    private Counter hits;
+    private Counter misses;
+    private Counter evictions;
+    private Timer renderTimer;
+
+    public record RenderedPdf(String hash, String filename, byte[] content) {
+    }
+
+    @PostConstruct
+    void init() {
+        hits = meterRegistry.counter("resume.pdf.cache.requests", "result", "hit");
+        misses = meterRegistry.counter("resume.pdf.cache.requests", "result", "miss");
+        evictions = meterRegistry.counter("resume.pdf.cache.evictions");
+        renderTimer = Timer.builder("resume.pdf.render")
+                .description("Time to render a resume PDF (cache misses only)")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("resume.pdf.cache.bytes", this, ResumePdfService::getCachedBytes)
+                .register(meterRegistry);
+    }
+
+    /**
+     * PDF of a resume owned by the current user.
+     */
+    public RenderedPdf getPdf(String resumeId) {
+
+        // Step 1: Load resume (ownership check)
+        Resume resume = resumeRepository
+                .findByUserIdAndId(currentUserContext.getUserId(), resumeId)
+                .orElseThrow(() ->
+                        new RuntimeException("Resume not found"));
+
+        // Step 2: Hash what the renderer will read
+        String hash = contentHash(resume);
+        String filename = filename(resume);
+
+        // Step 3: Serve from cache
+        byte[] cached = lookup(hash);
+        if (cached != null) {
+            hits.increment();
+            return new RenderedPdf(hash, filename, cached);
+        }
+
+        // Step 4: Render and remember
+        misses.increment();
+        byte[] rendered = renderTimer.record(() -> renderer.render(resume));
+        store(hash, rendered);
+
+        log.debug("Rendered PDF for resume {} ({} bytes)", resumeId, rendered.length);
+        return new RenderedPdf(hash, filename, rendered);
+    }
+
+    public synchronized long getCachedBytes() {
+        return cachedBytes;
+    }
+
+    private synchronized byte[] lookup(String hash) {
+        return cache.get(hash);
+    }
+
+    private synchronized void store(String hash, byte[] content) {
+
+        // Never let one huge PDF flush the whole cache
+        if (content.length > maxCacheBytes / 4) {
+            return;
+        }
+
+        byte[] previous = cache.put(hash, content);
+        cachedBytes += content.length - (previous == null ? 0 : previous.length);
+
+        Iterator<Map.Entry<String, byte[]>> eldest = cache.entrySet().iterator();
+        while (cachedBytes > maxCacheBytes && eldest.hasNext()) {
+            cachedBytes -= eldest.next().getValue().length;
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    private String contentHash(Resume resume) {
+
+        // Fixed field order; id, owner, thumbnail and timestamps do not affect output
+        Map<String, Object> content = new LinkedHashMap<>();
+        content.put("renderer", ResumePdfRenderer.VERSION);
+        content.put("title", resume.getTitle());
+        content.put("template", resume.getTemplate());
+        content.put("profileInfo", resume.getProfileInfo());
+        content.put("contactInfo", resume.getContactInfo());
+        content.put("workExperience", resume.getWorkExperience());
+        content.put("education", resume.getEducation());
+        content.put("skills", resume.getSkills());
+        content.put("projects", resume.getProjects());
+        content.put("certifications", resume.getCertifications());
+        content.put("languages", resume.getLanguages());
+        content.put("interests", resume.getInterests());
+
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(objectMapper.writeValueAsBytes(content));
+            return HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new RuntimeException("Failed to hash resume content", e);
+        }
+    }
+
+    private static String filename(Resume resume) {
+
+        String title = resume.getTitle() == null ? "" :
+                resume.getTitle().trim().replaceAll("[^A-Za-z0-9._-]+", "_");
+        return (title.isEmpty() ? "resume" : title) + ".pdf";
+    }
+}
@@ -0,0 +1,113 @@
+package com.resume.builder.service;
+
+import com.mongodb.client.model.IndexOptions;
+import com.resume.builder.document.Resume;
+import com.resume.builder.dto.ResumeSummary;
+import com.resume.builder.exception.InvalidSearchQueryException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.TextQuery;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Full-text search over a user's resumes.
+ * Backed by one MongoDB text index prefixed with userId, so a search only
+ * reads the caller's index entries and MongoDB keeps the index current on
+ * every save, patch, autosave flush and delete.
+ */
+@Service
+@RequiredArgsConstructor
+public class ResumeSearchService {
+
+    static final String INDEX_NAME = "user_text";
+
+    private static final int MAX_QUERY_LENGTH = 200;
+    private static final int MAX_RESULTS = 50;
+
+    // Searchable text and its relevance weight
+    private static final Map<String, Integer> WEIGHTS = Map.ofEntries(
+            Map.entry("title", 10),
+            Map.entry("profileInfo.designation", 5),
+            Map.entry("profileInfo.summary", 2),
+            Map.entry("workExperience.company", 5),
+            Map.entry("workExperience.role", 5),
+            Map.entry("workExperience.description", 1),
+            Map.entry("projects.title", 5),
+            Map.entry("projects.description", 1),
+            Map.entry("skills.name", 8),
+            Map.entry("certifications.title", 5),
+            Map.entry("certifications.issuer", 2)
+    );
+
+    private final MongoTemplate mongoTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private Timer searchTimer;
+
+    @PostConstruct
+    void init() {
+
+        searchTimer = Timer.builder("resume.search.latency")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+
+        // @TextIndexed cannot add the userId prefix, so the index is declared here.
+        // Without it every search fails, so a failure here stops startup.
+        Document keys = new Document("userId", 1);
+        WEIGHTS.keySet().forEach(field -> keys.append(field, "text"));
+
+        try {
+            mongoTemplate.getCollection(mongoTemplate.getCollectionName(Resume.class))
+                    .createIndex(keys, new IndexOptions()
+                            .name(INDEX_NAME)
+                            .weights(new Document(Map.copyOf(WEIGHTS)))
+                            // Resume has no per-document language field
+                            .languageOverride("searchLanguage"));
+        } catch (RuntimeException e) {
+            throw new IllegalStateException("Could not create resume text index " + INDEX_NAME, e);
+        }
+    }
+
+    /**
+     * Resumes of the user matching the query, most relevant first.
+     * Supports MongoDB text syntax: "exact phrase" and -excluded terms.
+     */
+    public List<ResumeSummary> search(String userId, String text, int limit) {
+
+        // Step 1: Validate
+        String terms = text == null ? "" : text.strip();
+        if (terms.isEmpty()) {
+            throw new InvalidSearchQueryException("Query must not be empty");
+        }
+        if (terms.length() > MAX_QUERY_LENGTH) {
+            throw new InvalidSearchQueryException(
+                    "Query must be at most " + MAX_QUERY_LENGTH + " characters");
+        }
+
+        // Step 2: Owner + text match, ranked by score then recency
+        Query query = TextQuery.queryText(TextCriteria.forDefaultLanguage().matching(terms))
+                .sortByScore()
+                .addCriteria(Criteria.where("userId").is(userId))
+                .with(Sort.by(Sort.Direction.DESC, "updatedAt"))
+                .limit(Math.max(1, Math.min(limit, MAX_RESULTS)));
+        query.fields().include(ResumeSummary.FIELDS);
+
+        // Step 3: Map straight to summaries (score filled by @TextScore)
+        return searchTimer.record(() -> mongoTemplate.find(
+                query,
+                ResumeSummary.class,
+                mongoTemplate.getCollectionName(Resume.class)
+        ));
+    }
+}
@@ -1,24 +1,50 @@
 package com.resume.builder.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.resume.builder.document.Resume;
 import com.resume.builder.document.User;
-import com.resume.builder.dto.AuthResponse;
 import com.resume.builder.dto.CreateResumeRequest;
+import com.resume.builder.dto.ResumePage;
+import com.resume.builder.dto.ResumeSummary;
+import com.resume.builder.exception.InvalidCursorException;
+import com.resume.builder.exception.PreconditionFailedException;
 import com.resume.builder.repository.ResumeRepository;
+import com.resume.builder.security.CurrentUserContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ResumeService {
     private final ResumeRepository resumeRepository;
-    private final AuthService authService;
+    private final MongoTemplate mongoTemplate;
+    private final CurrentUserContext currentUserContext;
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private final ResumeThumbnailService resumeThumbnailService;
+    private final ResumeAutosaveBuffer resumeAutosaveBuffer;
+    private final ResumeHistoryService resumeHistoryService;
+    private final ObjectMapper objectMapper;
 
     public Resume createResume(
             CreateResumeRequest request,
@@ -48,7 +74,15 @@ public class ResumeService {
         newResume.setTemplate(template);
 
         // Step 6: Save
-        return resumeRepository.save(newResume);
+        Resume savedResume = resumeRepository.save(newResume);
+
+        // Step 7: Render thumbnail in the background
+        resumeThumbnailService.refreshIfChanged(savedResume);
+
+        // Step 8: First revision of the history
+        resumeHistoryService.record(savedResume.getId());
+
+        return savedResume;
     }
     private void setDefaultResumeData(Resume resume) {
         resume.setProfileInfo(new Resume.ProfileInfo());
@@ -62,10 +96,72 @@ public class ResumeService {
         resume.setInterests(new ArrayList<>());
         resume.setTemplate(new Resume.Template());
     }
-    public List<Resume> getUserResumes(User user) {
+    /**
+     * Newest-first page of resume summaries using keyset pagination on
+     * (updatedAt, _id): each page is one index range scan, however deep.
+     */
+    public ResumePage getUserResumes(User user, String cursor, int limit) {
 
-        return resumeRepository
-                .findByUserIdOrderByUpdatedAtDesc(user.getId());
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+
+        // Step 1: Owner + position after the cursor
+        Criteria criteria = Criteria.where("userId").is(user.getId());
+        if (cursor != null && !cursor.isBlank()) {
+            Cursor after = Cursor.decode(cursor);
+            criteria = criteria.orOperator(
+                    Criteria.where("updatedAt").lt(after.updatedAt()),
+                    Criteria.where("updatedAt").is(after.updatedAt())
+                            .and("_id").lt(after.id())
+            );
+        }
+
+        // Step 2: Summary fields only, one extra row to detect a next page
+        Query query = Query.query(criteria)
+                .with(Sort.by(Sort.Direction.DESC, "updatedAt", "_id"))
+                .limit(pageSize + 1);
+        query.fields().include(ResumeSummary.FIELDS);
+
+        List<Resume> resumes = mongoTemplate.find(query, Resume.class);
+
+        // Step 3: Build page
+        boolean hasMore = resumes.size() > pageSize;
+        List<Resume> page = hasMore ? resumes.subList(0, pageSize) : resumes;
+
+        String nextCursor = null;
+        if (hasMore) {
+            Resume last = page.get(page.size() - 1);
+            nextCursor = new Cursor(last.getUpdatedAt(), new ObjectId(last.getId())).encode();
+        }
+
+        return ResumePage.builder()
+                .resumes(page.stream().map(ResumeSummary::from).toList())
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * Opaque list position: updatedAt + _id of the last resume returned.
+     */
+    private record Cursor(LocalDateTime updatedAt, ObjectId id) {
+
+        String encode() {
+            String raw = updatedAt + "|" + id.toHexString();
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.indexOf('|');
+                return new Cursor(
+                        LocalDateTime.parse(raw.substring(0, separator)),
+                        new ObjectId(raw.substring(separator + 1))
+                );
+            } catch (RuntimeException e) {
+                throw new InvalidCursorException("Cursor is malformed or expired");
+            }
+        }
     }
     public Resume getResumeById(String resumeId, User user) {
 
@@ -75,10 +171,28 @@ public class ResumeService {
                         new RuntimeException("Resume not found"));
     }
 
+    /**
+     * Current version of a resume without loading its body
+     * (cheap check for conditional GETs).
+     */
+    public Optional<Long> getVersion(String resumeId, User user) {
+
+        Query query = Query.query(Criteria.where("_id").is(resumeId)
+                .and("userId").is(user.getId()));
+        query.fields().include("version");
+
+        return Optional.ofNullable(mongoTemplate.findOne(query, Resume.class))
+                .map(resume -> Objects.requireNonNullElse(resume.getVersion(), 0L));
+    }
+
+    /**
+     * @param expectedVersion version from If-Match, or null to skip the check
+     */
     public Resume updateResume(
             String resumeId,
             Resume updatedData,
-            User user) {
+            User user,
+            Long expectedVersion) {
 
         // Step 1: Fetch resume owned by user
         Resume existingResume = resumeRepository
@@ -86,34 +200,84 @@ public class ResumeService {
                 .orElseThrow(() ->
                         new RuntimeException("Resume not found"));
 
-        // Step 2: Update fields
-        existingResume.setTitle(updatedData.getTitle());
-        existingResume.setThumbnailLink(updatedData.getThumbnailLink());
-        existingResume.setTemplate(updatedData.getTemplate());
-        existingResume.setProfileInfo(updatedData.getProfileInfo());
-        existingResume.setContactInfo(updatedData.getContactInfo());
-        existingResume.setWorkExperience(updatedData.getWorkExperience());
-        existingResume.setEducation(updatedData.getEducation());
-        existingResume.setSkills(updatedData.getSkills());
-        existingResume.setProjects(updatedData.getProjects());
-        existingResume.setCertifications(updatedData.getCertifications());
-        existingResume.setLanguages(updatedData.getLanguages());
-        existingResume.setInterests(updatedData.getInterests());
-
-        // Step 3: Save updated resume
-        return resumeRepository.save(existingResume);
+        // Step 1.1: Reject edits based on an old copy (save() re-checks atomically)
+        long currentVersion = Objects.requireNonNullElse(existingResume.getVersion(), 0L);
+        if (expectedVersion != null && expectedVersion != currentVersion) {
+            throw new PreconditionFailedException(
+                    "Resume is at version " + currentVersion + ", not " + expectedVersion);
+        }
+
+        // Step 2: Set content fields only, guarded by the version read above.
+        // thumbnailLink/thumbnailHash are owned by ResumeThumbnailService and
+        // updated without a version bump, so a full save() could undo them
+        MongoConverter converter = mongoTemplate.getConverter();
+        Update update = new Update()
+                .set("title", updatedData.getTitle())
+                .set("template", converter.convertToMongoType(updatedData.getTemplate()))
+                .set("profileInfo", converter.convertToMongoType(updatedData.getProfileInfo()))
+                .set("contactInfo", converter.convertToMongoType(updatedData.getContactInfo()))
+                .set("workExperience", converter.convertToMongoType(updatedData.getWorkExperience()))
+                .set("education", converter.convertToMongoType(updatedData.getEducation()))
+                .set("skills", converter.convertToMongoType(updatedData.getSkills()))
+                .set("projects", converter.convertToMongoType(updatedData.getProjects()))
+                .set("certifications", converter.convertToMongoType(updatedData.getCertifications()))
+                .set("languages", converter.convertToMongoType(updatedData.getLanguages()))
+                .set("interests", converter.convertToMongoType(updatedData.getInterests()))
+                .set("updatedAt", LocalDateTime.now())
+                .inc("version", 1);
+
+        // Step 3: Write (supersedes any buffered autosave)
+        resumeAutosaveBuffer.discard(resumeId, user.getId());
+        Resume savedResume = mongoTemplate.findAndModify(
+                Query.query(Criteria.where("_id").is(existingResume.getId())
+                        .and("userId").is(user.getId())
+                        .and("version").is(existingResume.getVersion())),
+                update,
+                FindAndModifyOptions.options().returnNew(true),
+                Resume.class
+        );
+        if (savedResume == null) {
+            throw new PreconditionFailedException(
+                    "Resume was changed while it was being saved");
+        }
+
+        // Step 4: Re-render thumbnail only if its visual fields changed
+        resumeThumbnailService.refreshIfChanged(savedResume);
+
+        // Step 5: Capture the new revision in the background
+        resumeHistoryService.record(resumeId);
+
+        return savedResume;
+    }
+
+    /**
+     * Restore the content of an earlier revision. The restore is written as a
+     * new version, so the history stays append-only and can be undone.
+     */
+    public Resume restoreRevision(
+            String resumeId,
+            long revision,
+            User user,
+            Long expectedVersion) {
+
+        // Step 1: Rebuild content at that revision (also checks ownership)
+        JsonNode content = resumeHistoryService.getContent(resumeId, user.getId(), revision);
+
+        // Step 2: Save it like a normal update
+        Resume restored = objectMapper.convertValue(content, Resume.class);
+
+        return updateResume(resumeId, restored, user, expectedVersion);
     }
-    public void deleteResume(String resumeId, Object principal) {
+    public void deleteResume(String resumeId) {
 
-        // Step 1: Get logged-in user's profile
-        AuthResponse response =
-                authService.getProfile((User) principal);
+        // Step 1: Get logged-in user's id
+        String userId = currentUserContext.getUserId();
 
         // Step 2: Fetch resume ONLY if it belongs to this user
         Resume existingResume =
                 resumeRepository
                         .findByUserIdAndId(
-                                response.getId(),
+                                userId,
                                 resumeId
                         )
                         .orElseThrow(() ->
@@ -121,12 +285,15 @@ public class ResumeService {
                         );
 
         // Step 3: Delete resume
+        resumeAutosaveBuffer.discard(resumeId, userId);
         resumeRepository.delete(existingResume);
+        resumeThumbnailService.delete(resumeId);
+        resumeHistoryService.deleteHistory(resumeId);
 
         log.info(
                 "Resume deleted successfully. ResumeId={}, UserId={}",
                 resumeId,
-                response.getId()
+                userId
         );
     }
 
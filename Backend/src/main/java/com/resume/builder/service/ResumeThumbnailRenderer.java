@@ -0,0 +1,141 @@
+package com.resume.builder.service;
+
+import com.resume.builder.document.Resume;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Draws a fixed-size PNG preview of a resume with Java2D.
+ * Only the name, designation, theme and the shape of each section are drawn
+ * (body text becomes grey bars), so VISUAL_VERSION plus the fields hashed by
+ * ResumeThumbnailService fully determine the output.
+ */
+@Component
+public class ResumeThumbnailRenderer {
+
+    public static final int VISUAL_VERSION = 1;
+
+    public static final int WIDTH = 300;
+    public static final int HEIGHT = 424;   // A4 ratio
+
+    private static final int MARGIN = 18;
+    private static final int HEADER_HEIGHT = 72;
+    private static final int MAX_LINES_PER_SECTION = 6;
+
+    private static final Color LINE = new Color(0xd1, 0xd5, 0xdb);
+
+    public byte[] render(Resume resume) throws IOException {
+
+        ResumePdfRenderer.Theme theme = ResumePdfRenderer.resolveTheme(resume.getTemplate());
+        String family = theme.serif() ? Font.SERIF : Font.SANS_SERIF;
+
+        BufferedImage image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+
+        try {
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, WIDTH, HEIGHT);
+
+            // Header band
+            g.setColor(theme.accent());
+            g.fillRect(0, 0, WIDTH, HEADER_HEIGHT);
+
+            Resume.ProfileInfo profile = resume.getProfileInfo();
+            String name = profile != null && hasText(profile.getFullName())
+                    ? profile.getFullName()
+                    : Objects.requireNonNullElse(resume.getTitle(), "Resume");
+
+            g.setColor(Color.WHITE);
+            g.setFont(new Font(family, Font.BOLD, 20));
+            drawClipped(g, name, MARGIN, 36);
+
+            if (profile != null && hasText(profile.getDesignation())) {
+                g.setFont(new Font(family, Font.PLAIN, 12));
+                drawClipped(g, profile.getDesignation(), MARGIN, 56);
+            }
+
+            // Sections
+            int y = HEADER_HEIGHT + 22;
+            Font sectionFont = new Font(family, Font.BOLD, 10);
+
+            y = section(g, sectionFont, theme.accent(), "SUMMARY",
+                    profile != null && hasText(profile.getSummary()) ? 3 : 0, y);
+            y = section(g, sectionFont, theme.accent(), "EXPERIENCE", lines(resume.getWorkExperience(), 2), y);
+            y = section(g, sectionFont, theme.accent(), "EDUCATION", lines(resume.getEducation(), 1), y);
+            y = section(g, sectionFont, theme.accent(), "PROJECTS", lines(resume.getProjects(), 2), y);
+            y = section(g, sectionFont, theme.accent(), "SKILLS", lines(resume.getSkills(), 1) > 0 ? 2 : 0, y);
+            section(g, sectionFont, theme.accent(), "CERTIFICATIONS", lines(resume.getCertifications(), 1), y);
+
+        } finally {
+            g.dispose();
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16 * 1024);
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+
+    private int section(Graphics2D g, Font font, Color accent, String title, int lines, int y) {
+
+        if (lines == 0 || y > HEIGHT - 30) {
+            return y;
+        }
+
+        g.setColor(accent);
+        g.setFont(font);
+        g.drawString(title, MARGIN, y);
+        g.setStroke(new BasicStroke(1f));
+        g.drawLine(MARGIN, y + 4, WIDTH - MARGIN, y + 4);
+
+        y += 14;
+        g.setColor(LINE);
+        int fullWidth = WIDTH - 2 * MARGIN;
+        for (int i = 0; i < lines && y < HEIGHT - MARGIN; i++) {
+            // Deterministic ragged right edge
+            int width = fullWidth - ((i * 37) % 5) * 18;
+            g.fillRoundRect(MARGIN, y - 5, width, 5, 4, 4);
+            y += 11;
+        }
+
+        return y + 12;
+    }
+
+    private static int lines(List<?> items, int perItem) {
+        return items == null ? 0 : Math.min(items.size() * perItem, MAX_LINES_PER_SECTION);
+    }
+
+    private static void drawClipped(Graphics2D g, String text, int x, int y) {
+
+        FontMetrics metrics = g.getFontMetrics();
+        int available = WIDTH - x - MARGIN;
+        if (metrics.stringWidth(text) <= available) {
+            g.drawString(text, x, y);
+            return;
+        }
+
+        String value = text;
+        while (value.length() > 1 && metrics.stringWidth(value + "…") > available) {
+            value = value.substring(0, value.length() - 1);
+        }
+        g.drawString(value + "…", x, y);
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+}
@@ -0,0 +1,279 @@
+package com.resume.builder.service;
+
+import com.cloudinary.Cloudinary;
+import com.cloudinary.utils.ObjectUtils;
+import com.resume.builder.document.Resume;
+import com.resume.builder.repository.ResumeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generates resume thumbnails on the server.
+ * Each resume stores a hash of the fields the thumbnail shows; a save only
+ * queues a render when that hash changed. Renders run on a small bounded
+ * pool, upload to Cloudinary under a stable public id and then set
+ * thumbnailLink with a targeted update so concurrent edits are not lost.
+ * At most one render per resume runs at a time; a save during a render
+ * re-runs it afterwards, and the link is only written if the resume is
+ * still at the version that was rendered.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ResumeThumbnailService {
+
+    private static final String FOLDER = "resume-builder/thumbnails";
+
+    private final ResumeRepository resumeRepository;
+    private final MongoTemplate mongoTemplate;
+    private final Cloudinary cloudinary;
+    private final ResumeThumbnailRenderer renderer;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${resume.thumbnail.threads:2}")
+    private int threads;
+
+    @Value("${resume.thumbnail.queue-capacity:200}")
+    private int queueCapacity;
+
+    private ThreadPoolExecutor executor;
+
+    // Resume ids queued or rendering; later saves coalesce into that run
+    private final Set<String> queued = ConcurrentHashMap.newKeySet();
+
+    // Resume ids saved since their run last read them
+    private final Set<String> stale = ConcurrentHashMap.newKeySet();
+
+    private Counter generated;
+    private Counter unchanged;
+    private Counter rejected;
+    private Counter failed;
+    private Timer renderTimer;
+
+    @PostConstruct
+    void init() {
+
+        AtomicInteger counter = new AtomicInteger();
+
+        executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable,
+                            "resume-thumbnail-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        generated = meterRegistry.counter("resume.thumbnail.requests", "result", "generated");
+        unchanged = meterRegistry.counter("resume.thumbnail.requests", "result", "unchanged");
+        rejected = meterRegistry.counter("resume.thumbnail.requests", "result", "rejected");
+        failed = meterRegistry.counter("resume.thumbnail.requests", "result", "failed");
+        renderTimer = meterRegistry.timer("resume.thumbnail.latency");
+
+        Gauge.builder("resume.thumbnail.queue.depth", executor, e -> e.getQueue().size())
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queue a thumbnail render if the visual fields changed since the last one.
+     * Safe to call after every save.
+     */
+    public void refreshIfChanged(Resume resume) {
+
+        if (resume.getId() == null
+                || visualHash(resume).equals(resume.getThumbnailHash())) {
+            unchanged.increment();
+            return;
+        }
+
+        refresh(resume.getId());
+    }
+
+    /**
+     * Queue a render check for a resume that was updated in place
+     * (the worker compares hashes against the stored document).
+     */
+    public void refresh(String resumeId) {
+
+        // Marked before the queued check, so a running render sees it
+        stale.add(resumeId);
+
+        // Already queued or rendering → that run (re)loads the latest state
+        if (!queued.add(resumeId)) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> generateUntilCurrent(resumeId));
+        } catch (RejectedExecutionException e) {
+            // Hash is still stale, so the next save retries
+            queued.remove(resumeId);
+            stale.remove(resumeId);
+            rejected.increment();
+            log.warn("Thumbnail queue full, skipping resume {}", resumeId);
+        }
+    }
+
+    /**
+     * Remove the stored thumbnail of a deleted resume (best effort).
+     */
+    public void delete(String resumeId) {
+        try {
+            executor.execute(() -> {
+                try {
+                    cloudinary.uploader().destroy(FOLDER + "/" + resumeId,
+                            ObjectUtils.asMap("resource_type", "image", "invalidate", true));
+                } catch (Exception e) {
+                    log.warn("Failed to delete thumbnail of resume {}", resumeId, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("Thumbnail queue full, thumbnail of resume {} not deleted", resumeId);
+        }
+    }
+
+    /**
+     * Render until no save arrived during the last render. Holding the
+     * resume in "queued" meanwhile keeps a second render (and an older
+     * upload overwriting a newer one) from running concurrently.
+     */
+    private void generateUntilCurrent(String resumeId) {
+        do {
+            stale.remove(resumeId);
+            try {
+                generate(resumeId);
+            } finally {
+                queued.remove(resumeId);
+            }
+        } while (stale.contains(resumeId) && queued.add(resumeId));
+    }
+
+    private void generate(String resumeId) {
+
+        // Step 1: Work from the latest saved state
+        Resume resume = resumeRepository.findById(resumeId).orElse(null);
+        if (resume == null) {
+            return;
+        }
+
+        String hash = visualHash(resume);
+        if (hash.equals(resume.getThumbnailHash())) {
+            unchanged.increment();
+            return;
+        }
+
+        try {
+            // Step 2: Render
+            Timer.Sample sample = Timer.start(meterRegistry);
+            byte[] png = renderer.render(resume);
+            sample.stop(renderTimer);
+
+            // Step 3: Upload under a stable id (URL version changes per upload)
+            Map<?, ?> uploadResult = cloudinary.uploader().upload(
+                    png,
+                    ObjectUtils.asMap(
+                            "resource_type", "image",
+                            "folder", FOLDER,
+                            "public_id", resumeId,
+                            "overwrite", true,
+                            "invalidate", true
+                    )
+            );
+
+            // Step 4: Touch only the thumbnail fields, and only if the resume
+            // is still the version that was rendered (a newer save re-runs).
+            // No version bump: they aren't part of the versioned resume
+            long matched = mongoTemplate.updateFirst(
+                    Query.query(Criteria.where("_id").is(resumeId)
+                            .and("version").is(resume.getVersion())),
+                    new Update()
+                            .set("thumbnailLink", uploadResult.get("secure_url").toString())
+                            .set("thumbnailHash", hash),
+                    Resume.class
+            ).getMatchedCount();
+
+            if (matched == 0) {
+                log.debug("Resume {} changed while its thumbnail rendered", resumeId);
+                return;
+            }
+
+            generated.increment();
+            log.debug("Thumbnail generated for resume {}", resumeId);
+
+        } catch (Exception e) {
+            failed.increment();
+            log.error("Thumbnail generation failed for resume {}", resumeId, e);
+        }
+    }
+
+    /**
+     * Hash of exactly what ResumeThumbnailRenderer draws.
+     */
+    String visualHash(Resume resume) {
+
+        Resume.Template template = resume.getTemplate();
+        Resume.ProfileInfo profile = resume.getProfileInfo();
+
+        StringBuilder key = new StringBuilder(128)
+                .append(ResumeThumbnailRenderer.VISUAL_VERSION).append('\u0000')
+                .append(template == null ? null : template.getTheme()).append('\u0000')
+                .append(template == null || template.getColorPalette() == null
+                        || template.getColorPalette().isEmpty()
+                        ? null : template.getColorPalette().get(0)).append('\u0000')
+                .append(resume.getTitle()).append('\u0000')
+                .append(profile == null ? null : profile.getFullName()).append('\u0000')
+                .append(profile == null ? null : profile.getDesignation()).append('\u0000')
+                .append(profile != null && profile.getSummary() != null
+                        && !profile.getSummary().isBlank()).append('\u0000')
+                .append(size(resume.getWorkExperience())).append(',')
+                .append(size(resume.getEducation())).append(',')
+                .append(size(resume.getProjects())).append(',')
+                .append(size(resume.getSkills())).append(',')
+                .append(size(resume.getCertifications()));
+
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(key.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static int size(List<?> items) {
+        return items == null ? 0 : items.size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,63 @@
+package com.resume.builder.service;
+
+import com.resume.builder.document.Resume;
+import com.mongodb.client.result.UpdateResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+
+/**
+ * Resumes saved before Resume.version existed have no version field, which
+ * Spring Data would treat as "new" and try to insert on save().
+ * Sets version = 0 on those once: the full scan runs on the first startup
+ * only, and a marker in schema_migrations skips it afterwards.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ResumeVersionBackfill {
+
+    static final String MIGRATIONS = "schema_migrations";
+    static final String MIGRATION_ID = "resume-version-backfill";
+
+    private final MongoTemplate mongoTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            // Step 1: Done on an earlier startup → single _id lookup
+            if (mongoTemplate.exists(Query.query(Criteria.where("_id").is(MIGRATION_ID)), MIGRATIONS)) {
+                return;
+            }
+
+            // Step 2: Backfill (version is not indexed, so this scans once)
+            UpdateResult result = mongoTemplate.updateMulti(
+                    Query.query(Criteria.where("version").exists(false)),
+                    new Update().set("version", 0L),
+                    Resume.class
+            );
+            if (result.getModifiedCount() > 0) {
+                log.info("Initialised version on {} resumes", result.getModifiedCount());
+            }
+
+            // Step 3: Mark done; every writer since sets version itself
+            mongoTemplate.insert(new Document("_id", MIGRATION_ID).append("appliedAt", new Date()),
+                    MIGRATIONS);
+
+        } catch (DuplicateKeyException e) {
+            // Another instance finished it concurrently
+        } catch (Exception e) {
+            log.error("Resume version backfill failed", e);
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.resume.builder.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps authenticated SMTP connections open and reuses them, so each
+ * message no longer pays for TCP connect + STARTTLS + AUTH.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SmtpTransportPool {
+
+    private final JavaMailSenderImpl mailSender;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${mail.pool.max-size:4}")
+    private int maxSize;
+
+    @Value("${mail.pool.idle-timeout-ms:30000}")
+    private long idleTimeoutMs;
+
+    @Value("${mail.pool.max-messages-per-connection:100}")
+    private int maxMessagesPerConnection;
+
+    @Value("${mail.pool.borrow-timeout-ms:30000}")
+    private long borrowTimeoutMs;
+
+    // Most recently used first, so idle connections at the tail age out
+    private final LinkedBlockingDeque<PooledTransport> idle = new LinkedBlockingDeque<>();
+    private Semaphore permits;
+
+    private Counter connectionsOpened;
+
+    private static final class PooledTransport {
+        final Transport transport;
+        int messagesSent;
+        long lastUsed;
+
+        PooledTransport(Transport transport) {
+            this.transport = transport;
+            this.lastUsed = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Outcome of one message in a batch: null error means sent.
+     */
+    public record SendResult(MimeMessage message, Exception error) {
+        public boolean isSent() {
+            return error == null;
+        }
+    }
+
+    @PostConstruct
+    void init() {
+        permits = new Semaphore(maxSize, true);
+
+        connectionsOpened = meterRegistry.counter("mail.pool.connections.opened");
+        Gauge.builder("mail.pool.idle", idle, LinkedBlockingDeque::size)
+                .register(meterRegistry);
+        Gauge.builder("mail.pool.in-use", this, pool -> maxSize - pool.permits.availablePermits())
+                .register(meterRegistry);
+    }
+
+    public void send(MimeMessage message) throws MessagingException {
+
+        SendResult result = sendAll(List.of(message)).get(0);
+        if (!result.isSent()) {
+            if (result.error() instanceof MessagingException messagingException) {
+                throw messagingException;
+            }
+            throw new MessagingException("Failed to send message", result.error());
+        }
+    }
+
+    /**
+     * Send several messages over one borrowed connection.
+     * A failing message (including a failed reconnect) does not stop the
+     * rest of the batch: there is always one result per message, so callers
+     * only retry what was not sent.
+     *
+     * @throws MessagingException only if no connection slot was free (nothing sent)
+     */
+    public List<SendResult> sendAll(List<MimeMessage> messages) throws MessagingException {
+
+        acquirePermit();
+
+        List<SendResult> results = new ArrayList<>(messages.size());
+        PooledTransport pooled = null;
+
+        try {
+            for (MimeMessage message : messages) {
+                try {
+                    if (pooled == null || pooled.messagesSent >= maxMessagesPerConnection) {
+                        discard(pooled);
+                        pooled = null;
+                        pooled = borrowOrConnect();
+                    }
+
+                    pooled = sendWithRetry(pooled, message);
+                    results.add(new SendResult(message, null));
+                } catch (MessagingException | RuntimeException e) {
+                    log.warn("SMTP send failed: {}", e.getMessage());
+                    results.add(new SendResult(message, e));
+                    // Connection state unknown after a failure
+                    discard(pooled);
+                    pooled = null;
+                }
+            }
+        } finally {
+            if (pooled != null) {
+                pooled.lastUsed = System.currentTimeMillis();
+                idle.offerFirst(pooled);
+            }
+            permits.release();
+        }
+
+        return results;
+    }
+
+    private PooledTransport sendWithRetry(PooledTransport pooled, MimeMessage message)
+            throws MessagingException {
+
+        prepare(message);
+        try {
+            pooled.transport.sendMessage(message, message.getAllRecipients());
+        } catch (MessagingException e) {
+            // Reused connection may have been dropped by the server; retry once fresh
+            if (pooled.messagesSent == 0) {
+                throw e;
+            }
+            discard(pooled);
+            PooledTransport fresh = connect();
+            try {
+                fresh.transport.sendMessage(message, message.getAllRecipients());
+            } catch (MessagingException | RuntimeException retryError) {
+                // Not handed back to the caller, so close it here
+                discard(fresh);
+                throw retryError;
+            }
+            pooled = fresh;
+        }
+
+        pooled.messagesSent++;
+        return pooled;
+    }
+
+    private void prepare(MimeMessage message) throws MessagingException {
+        if (message.getSentDate() == null) {
+            message.setSentDate(new Date());
+        }
+        message.saveChanges();
+    }
+
+    private PooledTransport borrowOrConnect() throws MessagingException {
+
+        PooledTransport pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            if (!isExpired(pooled, System.currentTimeMillis())
+                    && pooled.transport.isConnected()) {
+                return pooled;
+            }
+            discard(pooled);
+        }
+        return connect();
+    }
+
+    private PooledTransport connect() throws MessagingException {
+
+        // Same protocol resolution as JavaMailSenderImpl
+        String protocol = mailSender.getProtocol();
+        if (protocol == null) {
+            protocol = mailSender.getSession().getProperty("mail.transport.protocol");
+        }
+        if (protocol == null) {
+            protocol = JavaMailSenderImpl.DEFAULT_PROTOCOL;
+        }
+
+        Transport transport = mailSender.getSession().getTransport(protocol);
+
+        transport.connect(
+                mailSender.getHost(),
+                mailSender.getPort(),
+                mailSender.getUsername(),
+                mailSender.getPassword()
+        );
+
+        connectionsOpened.increment();
+        return new PooledTransport(transport);
+    }
+
+    private void acquirePermit() throws MessagingException {
+        try {
+            if (!permits.tryAcquire(borrowTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new MessagingException("Timed out waiting for an SMTP connection");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MessagingException("Interrupted waiting for an SMTP connection");
+        }
+    }
+
+    private boolean isExpired(PooledTransport pooled, long now) {
+        return now - pooled.lastUsed > idleTimeoutMs;
+    }
+
+    private void discard(PooledTransport pooled) {
+        if (pooled == null) {
+            return;
+        }
+        try {
+            pooled.transport.close();
+        } catch (MessagingException e) {
+            log.debug("Error closing SMTP connection", e);
+        }
+    }
+
+    /**
+     * Close connections that have been idle longer than the timeout.
+     */
+    @Scheduled(fixedDelayString = "${mail.pool.eviction-interval-ms:15000}")
+    public void evictIdle() {
+
+        long now = System.currentTimeMillis();
+        Iterator<PooledTransport> iterator = idle.descendingIterator();
+
+        while (iterator.hasNext()) {
+            PooledTransport pooled = iterator.next();
+            if (isExpired(pooled, now) && idle.removeLastOccurrence(pooled)) {
+                discard(pooled);
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        PooledTransport pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            discard(pooled);
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package com.resume.builder.service;
 
-import com.resume.builder.document.User;
-import com.resume.builder.dto.AuthResponse;
+import com.resume.builder.security.CurrentUserContext;
 import com.resume.builder.util.AppConstants;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,21 +16,20 @@ import java.util.Map;
 @Slf4j
 public class TemplatesService {
 
-    private final AuthService authService;
+    private final CurrentUserContext currentUserContext;
 
 
 
-    public Map<String, Object> getTemplates(Object principal) {
+    public Map<String, Object> getTemplates() {
 
-        // Step 1: Get logged-in user's profile
-        User user = (User) principal;
-        AuthResponse authResponse =
-                authService.getProfile(user);
+        // Step 1: Get logged-in user's plan (already resolved for this request)
+        String subscriptionPlan =
+                currentUserContext.getSubscriptionPlan();
 
         // Step 2: Check subscription
         boolean isPremium =
                 AppConstants.PREMIUM.equalsIgnoreCase(
-                        authResponse.getSubscriptionPlan()
+                        subscriptionPlan
                 );
 
         // Step 3: Decide available templates
@@ -63,7 +61,7 @@ public class TemplatesService {
             "allTemplates",
             List.of("Classic Blue", "ATS Clean", "Modern Navy", "Minimal Grey", "Accent Orange", "Academic Grey", "Tech Serif")
         );
-        restrictions.put("subscriptionPlan", authResponse.getSubscriptionPlan());
+        restrictions.put("subscriptionPlan", subscriptionPlan);
         restrictions.put("isPremium", isPremium);
 
         return restrictions;
@@ -0,0 +1,137 @@
+package com.resume.builder.service;
+
+import com.resume.builder.document.User;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Deletes accounts that never verified their email, in bounded batches.
+ * A grace period after token expiry leaves time for "resend verification".
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UnverifiedUserSweeper {
+
+    private final MongoTemplate mongoTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${user.sweeper.grace-hours:168}")
+    private long graceHours;
+
+    @Value("${user.sweeper.batch-size:500}")
+    private int batchSize;
+
+    @Value("${user.sweeper.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    private Counter deletedCounter;
+    private Timer runTimer;
+
+    // Seconds the oldest stale account has been waiting for deletion
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    @PostConstruct
+    void init() {
+        deletedCounter = meterRegistry.counter("user.sweeper.deleted");
+        runTimer = meterRegistry.timer("user.sweeper.run");
+        Gauge.builder("user.sweeper.lag.seconds", lagSeconds, AtomicLong::get)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(
+            initialDelayString = "${user.sweeper.initial-delay-ms:60000}",
+            fixedDelayString = "${user.sweeper.interval-ms:3600000}"
+    )
+    public void sweep() {
+        runTimer.record(this::sweepOnce);
+    }
+
+    private void sweepOnce() {
+
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(graceHours);
+
+        Query staleUsers = staleUsersBefore(cutoff);
+        staleUsers.fields().include("_id");
+        staleUsers.cursorBatchSize(batchSize);
+
+        long deleted = 0;
+        int batches = 0;
+        List<String> batch = new ArrayList<>(batchSize);
+
+        // Stream ids from a cursor; delete in fixed-size chunks
+        try (Stream<User> stream = mongoTemplate.stream(staleUsers, User.class)) {
+            Iterator<User> cursor = stream.iterator();
+            while (cursor.hasNext() && batches < maxBatchesPerRun) {
+                batch.add(cursor.next().getId());
+
+                if (batch.size() == batchSize) {
+                    deleted += deleteBatch(batch);
+                    batch.clear();
+                    batches++;
+                }
+            }
+        }
+        if (!batch.isEmpty() && batches < maxBatchesPerRun) {
+            deleted += deleteBatch(batch);
+        }
+
+        updateLag(cutoff);
+
+        if (deleted > 0) {
+            log.info("Removed {} unverified users (lag {}s)", deleted, lagSeconds.get());
+        }
+    }
+
+    private long deleteBatch(List<String> ids) {
+
+        // Re-check emailVerified: the user may have verified since the read
+        long removed = mongoTemplate.remove(
+                Query.query(Criteria.where("_id").in(ids)
+                        .and("emailVerified").is(false)),
+                User.class
+        ).getDeletedCount();
+
+        deletedCounter.increment(removed);
+        return removed;
+    }
+
+    private void updateLag(LocalDateTime cutoff) {
+
+        Query oldest = staleUsersBefore(cutoff)
+                .with(Sort.by(Sort.Direction.ASC, "verificationExpires"))
+                .limit(1);
+        oldest.fields().include("verificationExpires");
+
+        User user = mongoTemplate.findOne(oldest, User.class);
+
+        lagSeconds.set(user == null
+                ? 0
+                : Duration.between(user.getVerificationExpires(), cutoff).toSeconds());
+    }
+
+    private static Query staleUsersBefore(LocalDateTime cutoff) {
+        return Query.query(Criteria.where("verificationExpires").lt(cutoff)
+                .and("emailVerified").is(false));
+    }
+}
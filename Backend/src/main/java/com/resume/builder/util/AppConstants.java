@@ -9,11 +9,23 @@ public final class AppConstants {
     public static final String UPLOAD_IMAGE="/upload-image";
     public static final String LOGIN="/login";
     public static final String VALIDATE="/validate";
+    public static final String REFRESH="/refresh";
+    public static final String LOGOUT="/logout";
     public static final String RESEND_VERIFICATION="/resend-verification";
     public static final String PROFILE="/profile";
     public static final String RESUME="/api/resumes";
     public static final String ID="/{id}";
     public static final String UPLOAD_IMAGES="/{id}/upload-images";
+    public static final String PDF="/{id}/pdf";
+    public static final String AUTOSAVE="/{id}/autosave";
+    public static final String SEARCH="/search";
+    public static final String EXPORT="/export";
+    public static final String IMPORT="/import";
+    public static final String ADMIN="/api/admin";
+    public static final String VERSIONS="/{id}/versions";
+    public static final String VERSION="/{id}/versions/{revision}";
+    public static final String VERSION_DIFF="/{id}/versions/{revision}/diff";
+    public static final String VERSION_RESTORE="/{id}/versions/{revision}/restore";
     public static final String PREMIUM = "Premium";
 
 
@@ -0,0 +1,64 @@
+package com.resume.builder.util;
+
+import com.resume.builder.exception.PreconditionFailedException;
+
+/**
+ * Minimal ETag helpers for conditional requests.
+ * Comparison is weak (a W/ prefix is ignored), which is what
+ * If-None-Match requires and is good enough for our If-Match checks.
+ */
+public final class ETags {
+
+    private ETags() {}
+
+    public static String of(Object value) {
+        return "\"" + value + "\"";
+    }
+
+    public static String ofVersion(Long version) {
+        return of(version == null ? 0L : version);
+    }
+
+    /**
+     * True if an If-None-Match header lists this ETag (or "*").
+     */
+    public static boolean matches(String header, String etag) {
+
+        if (header == null || header.isBlank()) {
+            return false;
+        }
+
+        String expected = strip(etag);
+        for (String candidate : header.split(",")) {
+            String value = candidate.trim();
+            if ("*".equals(value) || strip(value).equals(expected)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Version expected by an If-Match header; null when absent or "*".
+     */
+    public static Long parseVersion(String header) {
+
+        if (header == null || header.isBlank() || "*".equals(header.trim())) {
+            return null;
+        }
+
+        try {
+            return Long.parseLong(strip(header.trim()));
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException("If-Match must be an ETag returned by this API");
+        }
+    }
+
+    private static String strip(String etag) {
+        String value = etag.startsWith("W/") ? etag.substring(2) : etag;
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            value = value.substring(1, value.length() - 1);
+        }
+        return value;
+    }
+}
@@ -1,55 +1,115 @@
 package com.resume.builder.util;
 
+import com.resume.builder.security.TokenRevocationList;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
+import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 @Component
+@RequiredArgsConstructor
 public class JwtUtil {
 
+    // Claim holding the session (refresh-token family) id
+    public static final String SESSION_CLAIM = "sid";
+
+    private final TokenRevocationList tokenRevocationList;
+
     @Value("${jwt.secret}")
     private String jwtSecret;
 
     @Value("${jwt.expiration}")
     private long jwtExpiration;
 
-    // Generate JWT token
-    public String generateToken(String userId) {
+    @Value("${jwt.cache.max-size:1024}")
+    private int cacheMaxSize;
+
+    // Built once at startup, both are thread-safe
+    private Key signingKey;
+    private JwtParser jwtParser;
+
+    // Recently verified tokens (LRU, bounded)
+    private Map<String, Claims> verifiedTokens;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        verifiedTokens = Collections.synchronizedMap(
+                new LinkedHashMap<>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, Claims> eldest) {
+                        return size() > cacheMaxSize;
+                    }
+                });
+    }
+
+    // Generate short-lived access token bound to a session
+    public String generateToken(String userId, String sessionId) {
 
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpiration);
 
         return Jwts.builder()
                 .setSubject(userId)
+                .claim(SESSION_CLAIM, sessionId)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    // Extract userId from token
-    public String getUserIdFromToken(String token) {
+    /**
+     * Verify signature, expiry, session and revocation once and return the claims.
+     * Throws JwtException if the token is invalid, expired, has no sid or is revoked.
+     * Never touches the database.
+     */
+    public Claims verifyAndParse(String token) {
 
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        Claims claims = verifiedTokens.get(token);
+        if (claims != null) {
+            if (isExpired(claims)) {
+                verifiedTokens.remove(token);
+                throw new ExpiredJwtException(null, claims, "JWT expired");
+            }
+        } else {
+            // Parser rejects bad signatures and expired tokens
+            claims = jwtParser.parseClaimsJws(token).getBody();
 
-        return claims.getSubject();
+            // A token without a session could never be revoked
+            if (claims.get(SESSION_CLAIM, String.class) == null) {
+                throw new JwtException("JWT has no session");
+            }
+            verifiedTokens.put(token, claims);
+        }
+
+        // Checked on every call: a session can be revoked after caching
+        if (tokenRevocationList.isRevoked(claims.get(SESSION_CLAIM, String.class))) {
+            throw new JwtException("JWT revoked");
+        }
+
+        return claims;
+    }
+
+    // Extract userId from token
+    public String getUserIdFromToken(String token) {
+        return verifyAndParse(token).getSubject();
     }
 
     // Validate token
     public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token);
+            verifyAndParse(token);
             return true;
         } catch (JwtException e) {
             return false;
@@ -59,19 +119,14 @@ public class JwtUtil {
     // Check token expiry
     public boolean isTokenExpired(String token) {
         try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-            return claims.getExpiration().before(new Date());
+            return isExpired(verifyAndParse(token));
         } catch (Exception e) {
             return true;
         }
     }
 
-    // Signing key
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+    private boolean isExpired(Claims claims) {
+        return claims.getExpiration() != null
+                && claims.getExpiration().before(new Date());
     }
 }
@@ -0,0 +1,85 @@
+package com.resume.builder.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.resume.builder.document.Resume;
+import com.resume.builder.document.SampleResumes;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Resume (de)serialization with and without Blackbird for small, medium
+ * and huge resumes (entries per list section). Setup also prints the
+ * JSON size and its gzip size, i.e. bytes on the wire per GET with and
+ * without server.compression.
+ *
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark=JacksonBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JacksonBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int entries;
+
+    private ObjectMapper plain;
+    private ObjectMapper blackbird;
+    private Resume resume;
+    private byte[] json;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+
+        // Same settings as Boot's shared mapper that matter for Resume
+        plain = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        blackbird = plain.copy().registerModule(new BlackbirdModule());
+
+        resume = SampleResumes.of(entries);
+        json = plain.writeValueAsBytes(resume);
+
+        System.out.printf("entries=%d: %d bytes JSON, %d bytes gzip%n",
+                entries, json.length, gzip(json).length);
+    }
+
+    @Benchmark
+    public byte[] serializeDefault() throws IOException {
+        return plain.writeValueAsBytes(resume);
+    }
+
+    @Benchmark
+    public byte[] serializeBlackbird() throws IOException {
+        return blackbird.writeValueAsBytes(resume);
+    }
+
+    @Benchmark
+    public Resume deserializeDefault() throws IOException {
+        return plain.readValue(json, Resume.class);
+    }
+
+    @Benchmark
+    public Resume deserializeBlackbird() throws IOException {
+        return blackbird.readValue(json, Resume.class);
+    }
+
+    private static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(content);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,80 @@
+package com.resume.builder.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.resume.builder.document.Resume;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.boot.test.autoconfigure.json.JsonTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JsonTest
+@Import(JacksonConfig.class)
+class JacksonConfigTest {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private List<Jackson2ObjectMapperBuilderCustomizer> customizers;
+
+    @Test
+    void blackbirdIsRegisteredWithTheSharedMapper() {
+        assertThat(objectMapper.getRegisteredModuleIds())
+                .contains(new BlackbirdModule().getTypeId());
+    }
+
+    @Test
+    void resumeJsonIsTheSameWithAndWithoutBlackbird() throws Exception {
+
+        // Same Boot defaults, minus the Module beans
+        Jackson2ObjectMapperBuilder builder = new Jackson2ObjectMapperBuilder();
+        customizers.forEach(customizer -> customizer.customize(builder));
+        builder.modulesToInstall(modules -> modules.removeIf(BlackbirdModule.class::isInstance));
+        ObjectMapper plain = builder.build();
+        assertThat(plain.getRegisteredModuleIds()).doesNotContain(new BlackbirdModule().getTypeId());
+
+        Resume resume = sample();
+
+        String withBlackbird = objectMapper.writeValueAsString(resume);
+        assertThat(withBlackbird).isEqualTo(plain.writeValueAsString(resume));
+        assertThat(withBlackbird)
+                .contains("\"_id\":\"65f000000000000000000001\"")
+                .contains("\"thumbnailLink\":\"https://cdn.example.com/thumb.png\"")
+                .doesNotContain("thumbnailHash");
+
+        Resume roundTrip = objectMapper.readValue(withBlackbird, Resume.class);
+        resume.setThumbnailHash(null);
+        assertThat(roundTrip).isEqualTo(resume);
+    }
+
+    private static Resume sample() {
+        return Resume.builder()
+                .id("65f000000000000000000001")
+                .userId("user-1")
+                .title("Backend engineer")
+                .thumbnailLink("https://cdn.example.com/thumb.png")
+                .thumbnailHash("hash")
+                .template(Resume.Template.builder().theme("Classic Blue").colorPalette(List.of("#fff")).build())
+                .profileInfo(Resume.ProfileInfo.builder().fullName("Ada").designation("Engineer").build())
+                .contactInfo(Resume.ContactInfo.builder().email("ada@example.com").build())
+                .workExperience(List.of(Resume.WorkExperience.builder().company("Acme").role("Dev").build()))
+                .education(List.of(Resume.Education.builder().degree("BSc").build()))
+                .skills(List.of(Resume.Skill.builder().name("Java").progress(90).build()))
+                .projects(List.of(Resume.Project.builder().title("Builder").build()))
+                .certifications(List.of(Resume.Certification.builder().title("OCP").build()))
+                .languages(List.of(Resume.Language.builder().name("English").progress(100).build()))
+                .interests(List.of("Chess"))
+                .createdAt(LocalDateTime.of(2024, 1, 2, 3, 4, 5))
+                .updatedAt(LocalDateTime.of(2024, 2, 3, 4, 5, 6))
+                .version(7L)
+                .build();
+    }
+}
@@ -0,0 +1,63 @@
+package com.resume.builder.controller;
+
+import com.resume.builder.document.User;
+import com.resume.builder.service.ResumeExportService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class AdminControllerTest {
+
+    private final ResumeExportService resumeExportService = mock(ResumeExportService.class);
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        AdminController controller = new AdminController(resumeExportService);
+        ReflectionTestUtils.setField(controller, "exportTimeoutMs", 1_800_000L);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    void backupStreamsWithItsOwnAsyncTimeout() throws Exception {
+
+        when(resumeExportService.exportAll(eq(ResumeExportService.Format.ZIP), any(OutputStream.class)))
+                .thenAnswer(invocation -> {
+                    invocation.<OutputStream>getArgument(1).write("zip-bytes".getBytes(StandardCharsets.UTF_8));
+                    return 1L;
+                });
+
+        User admin = User.builder().id("admin-1").email("admin@example.com").build();
+        MvcResult started = mockMvc.perform(get("/api/admin/export")
+                        .param("format", "zip")
+                        .principal(new UsernamePasswordAuthenticationToken(admin, null, List.of())))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Per request: the container-wide async timeout is left alone
+        assertThat(started.getRequest().getAsyncContext().getTimeout()).isEqualTo(1_800_000L);
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(ResumeExportService.ZIP))
+                .andExpect(header().string("Content-Disposition", containsString("resumes-backup-")))
+                .andExpect(content().string("zip-bytes"));
+    }
+}
@@ -0,0 +1,342 @@
+package com.resume.builder.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.client.MongoDatabase;
+import com.resume.builder.document.EmailJob;
+import com.resume.builder.document.RefreshToken;
+import com.resume.builder.document.Resume;
+import com.resume.builder.document.User;
+import com.resume.builder.dto.ResumePage;
+import com.resume.builder.security.CurrentUserContext;
+import com.resume.builder.security.TokenRevocationList;
+import com.resume.builder.service.AttachmentStore;
+import com.resume.builder.service.EmailOutboxWorker;
+import com.resume.builder.service.EmailService;
+import com.resume.builder.service.RefreshTokenService;
+import com.resume.builder.service.ResumeAutosaveBuffer;
+import com.resume.builder.service.ResumeHistoryService;
+import com.resume.builder.service.ResumeSearchService;
+import com.resume.builder.service.ResumeService;
+import com.resume.builder.service.ResumeThumbnailService;
+import com.resume.builder.service.UnverifiedUserSweeper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Range;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Runs the hot queries through the real services and repositories against
+ * MongoDB with the indexes the application creates, with the profiler on,
+ * and fails when any of them scans a whole collection. Add a test here
+ * whenever a new query is added to a repository or service.
+ * Skipped when Docker is not available.
+ */
+@DataMongoTest
+@Testcontainers(disabledWithoutDocker = true)
+@Import({ResumeSearchService.class, IndexUsageTest.Metrics.class})
+class IndexUsageTest {
+
+    @Container
+    @ServiceConnection
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    @TestConfiguration
+    static class Metrics {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private ResumeSearchService resumeSearchService;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private ResumeRevisionRepository resumeRevisionRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EmailJobRepository emailJobRepository;
+
+    @Autowired
+    private BulkEmailRepository bulkEmailRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private RevokedSessionRepository revokedSessionRepository;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ResumeService resumeService;
+    private EmailOutboxWorker emailOutboxWorker;
+    private UnverifiedUserSweeper unverifiedUserSweeper;
+    private TokenRevocationList tokenRevocationList;
+    private RefreshTokenService refreshTokenService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+
+        user = User.builder()
+                .id(new ObjectId().toHexString())
+                .email("index-check@example.com")
+                .build();
+
+        resumeService = new ResumeService(
+                resumeRepository,
+                mongoTemplate,
+                mock(CurrentUserContext.class),
+                mock(ResumeThumbnailService.class),
+                mock(ResumeAutosaveBuffer.class),
+                mock(ResumeHistoryService.class),
+                new ObjectMapper()
+        );
+
+        emailOutboxWorker = new EmailOutboxWorker(
+                mongoTemplate,
+                emailJobRepository,
+                mock(EmailService.class),
+                mock(AttachmentStore.class),
+                meterRegistry
+        );
+        ReflectionTestUtils.setField(emailOutboxWorker, "leaseMs", 120000L);
+
+        unverifiedUserSweeper = new UnverifiedUserSweeper(mongoTemplate, meterRegistry);
+        ReflectionTestUtils.setField(unverifiedUserSweeper, "graceHours", 168L);
+        ReflectionTestUtils.setField(unverifiedUserSweeper, "batchSize", 500);
+        ReflectionTestUtils.setField(unverifiedUserSweeper, "maxBatchesPerRun", 20);
+        ReflectionTestUtils.invokeMethod(unverifiedUserSweeper, "init");
+
+        tokenRevocationList = new TokenRevocationList(revokedSessionRepository, meterRegistry);
+        ReflectionTestUtils.setField(tokenRevocationList, "accessTokenTtlMs", 900000L);
+        ReflectionTestUtils.setField(tokenRevocationList, "expectedEntries", 1000);
+
+        refreshTokenService = new RefreshTokenService(
+                refreshTokenRepository, mongoTemplate, tokenRevocationList);
+        ReflectionTestUtils.setField(refreshTokenService, "refreshExpirationMs", 2592000000L);
+    }
+
+    // ---- resumes ----
+
+    @Test
+    void resumeListPagesUseTheKeysetIndex() {
+
+        LocalDateTime updatedAt = LocalDateTime.now();
+        for (int i = 0; i < 3; i++) {
+            mongoTemplate.insert(Resume.builder()
+                    .userId(user.getId())
+                    .title("Resume " + i)
+                    .updatedAt(updatedAt)
+                    .build());
+        }
+
+        ResumePage first = resumeService.getUserResumes(user, null, 1);
+        assertThat(first.getNextCursor()).isNotNull();
+
+        // Cursor page: $or on (updatedAt, _id) under the userId prefix
+        assertIndexed("resumes", () -> resumeService.getUserResumes(user, first.getNextCursor(), 1));
+        assertIndexed("resumes", () -> resumeService.getUserResumes(user, null, 20));
+    }
+
+    @Test
+    void resumeLookupByOwnerUsesAnIndex() {
+        assertIndexed("resumes", () ->
+                resumeRepository.findByUserIdAndId(user.getId(), new ObjectId().toHexString()));
+    }
+
+    @Test
+    void resumeSearchUsesTheTextIndex() {
+        assertIndexed("resumes", () -> resumeSearchService.search(user.getId(), "kafka", 20));
+    }
+
+    // ---- resume_revisions ----
+
+    @Test
+    void revisionQueriesUseTheResumeRevisionIndex() {
+
+        String resumeId = new ObjectId().toHexString();
+
+        assertIndexed("resume_revisions", () -> {
+            resumeRevisionRepository.findFirstByResumeIdOrderByRevisionDesc(resumeId);
+            resumeRevisionRepository.findByResumeIdAndRevision(resumeId, 3L);
+            resumeRevisionRepository
+                    .findFirstByResumeIdAndTypeAndRevisionLessThanEqualOrderByRevisionDesc(
+                            resumeId, "snapshot", 3L);
+            resumeRevisionRepository.findByResumeIdAndRevisionBetweenOrderByRevisionAsc(
+                    resumeId, Range.closed(1L, 3L));
+            resumeRevisionRepository.findByResumeIdAndUserIdAndRevisionLessThanOrderByRevisionDesc(
+                    resumeId, user.getId(), Long.MAX_VALUE, PageRequest.of(0, 20));
+        });
+    }
+
+    // ---- payments / users ----
+
+    @Test
+    void paymentQueriesUseAnIndex() {
+        assertIndexed("payments", () -> {
+            paymentRepository.findByUserIdOrderByCreatedAtDesc(user.getId());
+            paymentRepository.findByRazorpayOrderId("order_check");
+        });
+    }
+
+    @Test
+    void userLookupsUseAnIndex() {
+        assertIndexed("users", () -> {
+            userRepository.findByEmail("check@example.com");
+            userRepository.findByVerificationToken("check");
+        });
+    }
+
+    @Test
+    void unverifiedUserSweepUsesTheExpiryIndex() {
+
+        mongoTemplate.insert(User.builder()
+                .email("stale@example.com")
+                .emailVerified(false)
+                .verificationToken("stale")
+                .verificationExpires(LocalDateTime.now().minusDays(30))
+                .build());
+
+        // Stream of stale ids, batch delete by _id, oldest-expiry lag lookup
+        assertIndexed("users", unverifiedUserSweeper::sweep);
+    }
+
+    // ---- email_outbox ----
+
+    @Test
+    void outboxClaimUsesTheStatusIndex() {
+
+        mongoTemplate.insert(EmailJob.builder()
+                .to("someone@example.com")
+                .subject("check")
+                .body("check")
+                .nextAttemptAt(LocalDateTime.now().minusMinutes(1))
+                .build());
+
+        // $or: due pending jobs, or sending jobs whose lease expired
+        assertIndexed("email_outbox", () -> ReflectionTestUtils.invokeMethod(emailOutboxWorker, "claimNext"));
+        assertIndexed("email_outbox", () ->
+                ReflectionTestUtils.invokeMethod(emailOutboxWorker, "claimNextInBatch", "batch-check"));
+    }
+
+    @Test
+    void outboxRepositoryQueriesUseAnIndex() {
+        assertIndexed("email_outbox", () -> {
+            emailJobRepository.countByStatus(EmailJob.PENDING);
+            emailJobRepository.findByBatchId("batch-check");
+            emailJobRepository.existsByAttachmentIdAndStatusIn(
+                    "attachment-check", List.of(EmailJob.PENDING, EmailJob.SENDING));
+        });
+    }
+
+    @Test
+    void bulkEmailLookupUsesAnIndex() {
+        assertIndexed("email_batches", () ->
+                bulkEmailRepository.findByIdAndUserId(new ObjectId().toHexString(), user.getId()));
+    }
+
+    // ---- refresh_tokens / revoked_sessions ----
+
+    @Test
+    void refreshRotationAndReuseUseAnIndex() {
+
+        RefreshTokenService.IssuedToken issued = refreshTokenService.issue(user.getId());
+
+        assertIndexed("refresh_tokens", () -> refreshTokenService.rotate(issued.rawToken()));
+
+        // Replaying the rotated token revokes the family by familyId
+        assertIndexed("refresh_tokens", () ->
+                assertThatThrownBy(() -> refreshTokenService.rotate(issued.rawToken()))
+                        .hasMessageContaining("refresh token"));
+
+        RefreshToken stored = refreshTokenRepository.findAll().get(0);
+        assertThat(stored.isRevoked()).isTrue();
+    }
+
+    @Test
+    void revocationListLoadAndSyncUseAnIndex() {
+        assertIndexed("revoked_sessions", () -> {
+            ReflectionTestUtils.invokeMethod(tokenRevocationList, "init");
+            tokenRevocationList.sync();
+        });
+    }
+
+    /**
+     * Run the operation with the profiler on and check the plan of every
+     * query it sent to the collection.
+     */
+    private void assertIndexed(String collection, Runnable operation) {
+
+        List<Document> plans = profile(collection, operation);
+
+        assertThat(plans)
+                .as("no query reached %s", collection)
+                .isNotEmpty();
+
+        for (Document entry : plans) {
+            String plan = entry.getString("planSummary");
+
+            // IXSCAN/IDHACK required too: a missing collection plans as EOF
+            assertThat(plan)
+                    .as("%s scans the whole collection: %s", collection, entry.get("command"))
+                    .doesNotContain("COLLSCAN")
+                    .containsAnyOf("IXSCAN", "IDHACK");
+        }
+    }
+
+    private List<Document> profile(String collection, Runnable operation) {
+
+        MongoDatabase db = mongoTemplate.getDb();
+
+        db.runCommand(new Document("profile", 0));
+        db.getCollection("system.profile").drop();
+        db.runCommand(new Document("profile", 2));
+        try {
+            operation.run();
+        } finally {
+            db.runCommand(new Document("profile", 0));
+        }
+
+        return db.getCollection("system.profile")
+                .find(new Document("ns", db.getName() + "." + collection)
+                        .append("planSummary", new Document("$exists", true)))
+                .into(new ArrayList<>());
+    }
+}
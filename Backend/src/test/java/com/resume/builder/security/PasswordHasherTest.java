@@ -0,0 +1,102 @@
+package com.resume.builder.security;
+
+import com.resume.builder.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PasswordHasherTest {
+
+    private final PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private PasswordHasher hasher;
+
+    @BeforeEach
+    void setUp() {
+        hasher = new PasswordHasher(passwordEncoder, meterRegistry);
+        ReflectionTestUtils.setField(hasher, "threads", 1);
+        ReflectionTestUtils.setField(hasher, "queueCapacity", 1);
+        ReflectionTestUtils.setField(hasher, "timeoutMs", 30000L);
+        ReflectionTestUtils.invokeMethod(hasher, "init");
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        ReflectionTestUtils.invokeMethod(hasher, "shutdown");
+    }
+
+    @Test
+    void hashingRunsOnTheBoundedPool() {
+
+        when(passwordEncoder.encode(anyString()))
+                .thenAnswer(invocation -> Thread.currentThread().getName());
+
+        assertThat(hasher.encode("secret")).startsWith("password-hasher-");
+        assertThat(meterRegistry.get("password.hashing.latency")
+                .tag("operation", "encode").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void fullQueueFailsFastWith503() throws Exception {
+
+        when(passwordEncoder.encode(anyString())).thenAnswer(invocation -> {
+            release.await();
+            return "hash";
+        });
+
+        // One hash running, one queued: the pool and its queue are full
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> hasher.encode("a"));
+        awaitGauge("password.hashing.active", 1);
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> hasher.encode("b"));
+        awaitGauge("password.hashing.queue.depth", 1);
+
+        // Rejected right away instead of blocking the caller
+        assertTimeoutPreemptively(Duration.ofSeconds(1), () ->
+                assertThatThrownBy(() -> hasher.encode("c"))
+                        .isInstanceOf(ServiceUnavailableException.class));
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hash");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hash");
+    }
+
+    @Test
+    void slowHashTimesOutWith503() {
+
+        ReflectionTestUtils.setField(hasher, "timeoutMs", 50L);
+        when(passwordEncoder.matches(anyString(), anyString())).thenAnswer(invocation -> {
+            release.await();
+            return true;
+        });
+
+        assertThatThrownBy(() -> hasher.matches("secret", "hash"))
+                .isInstanceOf(ServiceUnavailableException.class);
+    }
+
+    private void awaitGauge(String name, double value) throws InterruptedException {
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get(name).gauge().value() != value) {
+            assertThat(System.nanoTime()).as("%s never reached %s", name, value).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+}
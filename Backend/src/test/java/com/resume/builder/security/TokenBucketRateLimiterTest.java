@@ -0,0 +1,42 @@
+package com.resume.builder.security;
+
+import com.resume.builder.config.RateLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketRateLimiterTest {
+
+    private RateLimitProperties properties;
+    private TokenBucketRateLimiter limiter;
+    private RateLimitProperties.Limit limit;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RateLimitProperties();
+        properties.setMaxBuckets(20);
+        limiter = new TokenBucketRateLimiter(properties, new SimpleMeterRegistry());
+        limiter.init();
+
+        limit = new RateLimitProperties.Limit();
+        limit.setCapacity(1);
+        limit.setPeriodSeconds(60);
+    }
+
+    @Test
+    void fullTableEvictsOldestInsteadOfLettingKeysThrough() {
+
+        for (int i = 0; i < 20; i++) {
+            assertThat(limiter.tryConsume("key-" + i, limit)).isZero();
+        }
+
+        // New key after the table filled up gets a bucket of its own
+        assertThat(limiter.tryConsume("flood", limit)).isZero();
+        assertThat(limiter.tryConsume("flood", limit)).isPositive();
+
+        // Recently used keys survive the eviction and stay limited
+        assertThat(limiter.tryConsume("key-19", limit)).isPositive();
+    }
+}
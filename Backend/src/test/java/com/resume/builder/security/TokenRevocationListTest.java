@@ -0,0 +1,71 @@
+package com.resume.builder.security;
+
+import com.resume.builder.document.RevokedSession;
+import com.resume.builder.repository.RevokedSessionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class TokenRevocationListTest {
+
+    private RevokedSessionRepository repository;
+    private TokenRevocationList revocationList;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(RevokedSessionRepository.class);
+        revocationList = new TokenRevocationList(repository, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(revocationList, "accessTokenTtlMs", 60_000L);
+        ReflectionTestUtils.setField(revocationList, "expectedEntries", 100);
+        revocationList.init();
+    }
+
+    @Test
+    void revokedSessionIsRejected() {
+
+        revocationList.revoke("session-1", "user-1");
+
+        assertThat(revocationList.isRevoked("session-1")).isTrue();
+        assertThat(revocationList.isRevoked("session-2")).isFalse();
+        verify(repository).save(any(RevokedSession.class));
+    }
+
+    @Test
+    void bloomFilterFalsePositiveFallsBackToTheRevokedSet() {
+
+        // Filter claims the session might be revoked, but it never was
+        TokenRevocationList.BloomFilter filter = new TokenRevocationList.BloomFilter(100, 0.01);
+        filter.put("session-1");
+        ReflectionTestUtils.setField(revocationList, "bloomFilter", filter);
+
+        assertThat(filter.mightContain("session-1")).isTrue();
+        assertThat(revocationList.isRevoked("session-1")).isFalse();
+    }
+
+    @Test
+    void syncPicksUpRevocationsFromOtherInstances() {
+
+        LocalDateTime now = LocalDateTime.now();
+        when(repository.findByRevokedAtAfter(any(LocalDateTime.class))).thenReturn(List.of(
+                RevokedSession.builder()
+                        .id("session-remote")
+                        .userId("user-2")
+                        .revokedAt(now)
+                        .expiresAt(now.plusMinutes(15))
+                        .build()));
+
+        assertThat(revocationList.isRevoked("session-remote")).isFalse();
+
+        revocationList.sync();
+
+        assertThat(revocationList.isRevoked("session-remote")).isTrue();
+    }
+}
@@ -0,0 +1,194 @@
+package com.resume.builder.service;
+
+import com.mongodb.client.gridfs.GridFSBucket;
+import com.mongodb.client.gridfs.GridFSDownloadStream;
+import com.mongodb.client.gridfs.model.GridFSFile;
+import com.mongodb.client.gridfs.model.GridFSUploadOptions;
+import jakarta.activation.DataSource;
+import jakarta.mail.internet.MimeMessage;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs in a separate surefire execution with -Xmx64m (see pom.xml): an
+ * attachment several times larger than the heap must pass through upload
+ * and MIME encoding without being held in memory.
+ */
+class AttachmentStoreHeapTest {
+
+    private static final long ATTACHMENT_BYTES = 256L * 1024 * 1024;
+
+    private GridFSBucket bucket;
+    private AttachmentStore attachmentStore;
+
+    @BeforeEach
+    void setUp() {
+        bucket = mock(GridFSBucket.class);
+        attachmentStore = new AttachmentStore(mock(MongoTemplate.class));
+        ReflectionTestUtils.setField(attachmentStore, "bucket", bucket);
+    }
+
+    @Test
+    void attachmentLargerThanTheHeapIsStreamedThroughUploadAndSend() throws Exception {
+
+        // Only meaningful when the attachment can't fit in the heap
+        assumeThat(Runtime.getRuntime().maxMemory()).isLessThan(ATTACHMENT_BYTES / 2);
+
+        // Step 1: Upload drains the multipart stream into GridFS
+        MultipartFile file = mock(MultipartFile.class);
+        when(file.getInputStream()).thenReturn(new GeneratedStream(ATTACHMENT_BYTES));
+        when(file.getContentType()).thenReturn("application/pdf");
+
+        AtomicLong uploaded = new AtomicLong();
+        when(bucket.uploadFromStream(anyString(), any(InputStream.class), any(GridFSUploadOptions.class)))
+                .thenAnswer(invocation -> {
+                    uploaded.set(invocation.getArgument(1, InputStream.class).transferTo(OutputStream.nullOutputStream()));
+                    return new ObjectId();
+                });
+
+        String attachmentId = attachmentStore.store(file, "resume.pdf");
+        assertThat(uploaded.get()).isEqualTo(ATTACHMENT_BYTES);
+
+        // Step 2: Sending base64-encodes the GridFS stream straight onto the wire
+        when(bucket.openDownloadStream(any(ObjectId.class)))
+                .thenAnswer(invocation -> new DownloadStream(new GeneratedStream(ATTACHMENT_BYTES)));
+
+        DataSource source = attachmentStore.dataSource(attachmentId, "resume.pdf", "application/pdf");
+        EmailService emailService = new EmailService(new JavaMailSenderImpl(), mock(SmtpTransportPool.class));
+        ReflectionTestUtils.setField(emailService, "fromEmail", "noreply@example.com");
+
+        MimeMessage message = emailService.createMessageWithAttachment(
+                "user@example.com", "Resume", "Attached", source, "resume.pdf");
+        message.saveChanges();
+
+        CountingStream wire = new CountingStream();
+        message.writeTo(wire);
+
+        // base64 adds a third plus line breaks
+        assertThat(wire.count).isGreaterThan(ATTACHMENT_BYTES * 4 / 3);
+    }
+
+    /**
+     * Deterministic non-ASCII bytes, generated on the fly.
+     */
+    private static final class GeneratedStream extends InputStream {
+
+        private final long size;
+        private long position;
+
+        GeneratedStream(long size) {
+            this.size = size;
+        }
+
+        @Override
+        public int read() {
+            return position < size ? (int) (0x80 | (position++ & 0x7f)) : -1;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (position >= size) {
+                return -1;
+            }
+            int count = (int) Math.min(length, size - position);
+            for (int i = 0; i < count; i++) {
+                buffer[offset + i] = (byte) (0x80 | (position++ & 0x7f));
+            }
+            return count;
+        }
+    }
+
+    private static final class DownloadStream extends GridFSDownloadStream {
+
+        private final InputStream in;
+
+        DownloadStream(InputStream in) {
+            this.in = in;
+        }
+
+        @Override
+        public GridFSFile getGridFSFile() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public GridFSDownloadStream batchSize(int batchSize) {
+            return this;
+        }
+
+        @Override
+        public int read() {
+            try {
+                return in.read();
+            } catch (java.io.IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public int read(byte[] buffer) {
+            return read(buffer, 0, buffer.length);
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            try {
+                return in.read(buffer, offset, length);
+            } catch (java.io.IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public long skip(long bytes) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int available() {
+            return 0;
+        }
+
+        @Override
+        public void mark() {
+        }
+
+        @Override
+        public void reset() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static final class CountingStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] buffer, int offset, int length) {
+            count += length;
+        }
+    }
+}
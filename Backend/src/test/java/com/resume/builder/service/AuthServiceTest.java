@@ -0,0 +1,132 @@
+package com.resume.builder.service;
+
+import com.resume.builder.document.User;
+import com.resume.builder.dto.AuthResponse;
+import com.resume.builder.dto.RefreshTokenRequest;
+import com.resume.builder.dto.RegisterRequest;
+import com.resume.builder.exception.InvalidTokenException;
+import com.resume.builder.exception.ResourceExistsException;
+import com.resume.builder.repository.UserRepository;
+import com.resume.builder.security.CurrentUserContext;
+import com.resume.builder.security.PasswordHasher;
+import com.resume.builder.security.UserPrincipalCache;
+import com.resume.builder.util.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class AuthServiceTest {
+
+    private UserRepository userRepository;
+    private EmailOutboxService emailOutboxService;
+    private RefreshTokenService refreshTokenService;
+    private AuthService authService;
+
+    // Stands in for the unique email index
+    private final Map<String, User> usersByEmail = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        when(userRepository.insert(any(User.class))).thenAnswer(invocation -> {
+            User user = invocation.getArgument(0);
+            if (usersByEmail.putIfAbsent(user.getEmail(), user) != null) {
+                throw new DuplicateKeyException("E11000 duplicate key error index: email");
+            }
+            user.setId(UUID.randomUUID().toString());
+            return user;
+        });
+
+        PasswordHasher passwordHasher = mock(PasswordHasher.class);
+        when(passwordHasher.encode(anyString())).thenReturn("hashed");
+
+        emailOutboxService = mock(EmailOutboxService.class);
+        refreshTokenService = mock(RefreshTokenService.class);
+
+        authService = new AuthService(
+                userRepository,
+                emailOutboxService,
+                mock(EmailTemplateEngine.class),
+                passwordHasher,
+                mock(JwtUtil.class),
+                mock(UserPrincipalCache.class),
+                mock(CurrentUserContext.class),
+                refreshTokenService);
+        ReflectionTestUtils.setField(authService, "appBaseUrl", "http://localhost");
+    }
+
+    @Test
+    void concurrentRegistrationsOfOneEmailInsertExactlyOnce() throws Exception {
+
+        int callers = 16;
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<AuthResponse>> results = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            results.add(pool.submit(() -> {
+                start.await();
+                return authService.register(request("same@example.com"));
+            }));
+        }
+        start.countDown();
+
+        int registered = 0;
+        int rejected = 0;
+        for (Future<AuthResponse> result : results) {
+            try {
+                assertThat(result.get(10, TimeUnit.SECONDS).getId()).isNotNull();
+                registered++;
+            } catch (ExecutionException e) {
+                assertThat(e.getCause()).isInstanceOf(ResourceExistsException.class);
+                rejected++;
+            }
+        }
+        pool.shutdown();
+
+        assertThat(registered).isEqualTo(1);
+        assertThat(rejected).isEqualTo(callers - 1);
+        assertThat(usersByEmail).hasSize(1);
+
+        // No read-then-write: every caller goes straight to the insert
+        verify(userRepository, times(callers)).insert(any(User.class));
+        verify(userRepository, never()).save(any(User.class));
+        verify(emailOutboxService, times(1)).enqueueHtml(eq("same@example.com"), anyString(), any());
+    }
+
+    @Test
+    void refreshForADeletedUserEndsTheSession() {
+
+        RefreshTokenService.IssuedToken rotated =
+                new RefreshTokenService.IssuedToken("next-raw", "deleted-user", "family-1");
+        when(refreshTokenService.rotate("raw")).thenReturn(rotated);
+        when(userRepository.existsById("deleted-user")).thenReturn(false);
+
+        RefreshTokenRequest request = new RefreshTokenRequest();
+        request.setRefreshToken("raw");
+
+        assertThatThrownBy(() -> authService.refresh(request))
+                .isInstanceOf(InvalidTokenException.class);
+        verify(refreshTokenService).revoke("next-raw");
+    }
+
+    private static RegisterRequest request(String email) {
+        RegisterRequest request = new RegisterRequest();
+        request.setName("Test user");
+        request.setEmail(email);
+        request.setPassword("secret1");
+        return request;
+    }
+}
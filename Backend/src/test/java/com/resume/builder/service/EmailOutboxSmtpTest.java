@@ -0,0 +1,156 @@
+package com.resume.builder.service;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.mongodb.client.result.UpdateResult;
+import com.resume.builder.document.EmailJob;
+import com.resume.builder.repository.EmailJobRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.ServerSocket;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Outbox worker → EmailService → SmtpTransportPool against an in-process
+ * SMTP server (GreenMail). MongoDB is mocked: each claim returns the job
+ * as findAndModify would after the claim update.
+ */
+class EmailOutboxSmtpTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP.dynamicPort());
+
+    private MongoTemplate mongoTemplate;
+    private JavaMailSenderImpl mailSender;
+    private SmtpTransportPool pool;
+    private EmailOutboxWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(EmailJob.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+        mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("127.0.0.1");
+        mailSender.setPort(greenMail.getSmtp().getPort());
+        mailSender.getJavaMailProperties().put("mail.smtp.localhost", "localhost");
+        mailSender.getJavaMailProperties().put("mail.smtp.connectiontimeout", "2000");
+
+        pool = new SmtpTransportPool(mailSender, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(pool, "maxSize", 2);
+        ReflectionTestUtils.setField(pool, "idleTimeoutMs", 30_000L);
+        ReflectionTestUtils.setField(pool, "maxMessagesPerConnection", 100);
+        ReflectionTestUtils.setField(pool, "borrowTimeoutMs", 5_000L);
+        pool.init();
+
+        EmailService emailService = new EmailService(mailSender, pool);
+        ReflectionTestUtils.setField(emailService, "fromEmail", "noreply@example.com");
+
+        worker = new EmailOutboxWorker(mongoTemplate, mock(EmailJobRepository.class), emailService,
+                mock(AttachmentStore.class), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(worker, "workers", 1);
+        ReflectionTestUtils.setField(worker, "queueCapacity", 10);
+        ReflectionTestUtils.setField(worker, "maxAttempts", MAX_ATTEMPTS);
+        ReflectionTestUtils.setField(worker, "backoffInitialMs", 5_000L);
+        ReflectionTestUtils.setField(worker, "backoffMaxMs", 3_600_000L);
+        ReflectionTestUtils.setField(worker, "leaseMs", 120_000L);
+        ReflectionTestUtils.setField(worker, "sendBatchSize", 10);
+        worker.init();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        ReflectionTestUtils.invokeMethod(worker, "shutdown");
+        ReflectionTestUtils.invokeMethod(pool, "shutdown");
+    }
+
+    @Test
+    void claimedJobIsDeliveredAndMarkedSent() throws Exception {
+
+        claims(claimed(1));
+
+        worker.poll();
+
+        assertThat(greenMail.waitForIncomingEmail(5_000, 1)).isTrue();
+        MimeMessage received = greenMail.getReceivedMessages()[0];
+        assertThat(received.getAllRecipients()[0].toString()).isEqualTo("user@example.com");
+        assertThat(received.getSubject()).isEqualTo("Verify your email");
+
+        assertThat(outcomes(1)).containsExactly(EmailJob.SENT);
+    }
+
+    @Test
+    void transportFailureIsRetriedUntilTheJobIsDead() throws Exception {
+
+        // Nothing listens here: every connect is refused
+        try (ServerSocket socket = new ServerSocket(0)) {
+            mailSender.setPort(socket.getLocalPort());
+        }
+
+        // Each poll claims the job again (the claim counts the attempt)
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            claims(claimed(attempt));
+            worker.poll();
+            outcomes(attempt);
+        }
+
+        assertThat(outcomes(MAX_ATTEMPTS))
+                .containsExactly(EmailJob.PENDING, EmailJob.PENDING, EmailJob.DEAD);
+        assertThat(greenMail.getReceivedMessages()).isEmpty();
+    }
+
+    private void claims(EmailJob job) {
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class),
+                any(FindAndModifyOptions.class), eq(EmailJob.class)))
+                .thenReturn(job, (EmailJob) null);
+    }
+
+    /**
+     * Statuses written by the worker so far, waiting until there are this many.
+     */
+    private List<Object> outcomes(int expected) {
+
+        ArgumentCaptor<Update> updates = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate, timeout(10_000).times(expected))
+                .updateFirst(any(Query.class), updates.capture(), eq(EmailJob.class));
+
+        return updates.getAllValues().stream()
+                .map(update -> update.getUpdateObject().get("$set", Document.class).get("status"))
+                .toList();
+    }
+
+    private static EmailJob claimed(int attempts) {
+        return EmailJob.builder()
+                .id("job-1")
+                .to("user@example.com")
+                .subject("Verify your email")
+                .body("<p>Click to verify</p>")
+                .html(true)
+                .status(EmailJob.SENDING)
+                .attempts(attempts)
+                .lockedUntil(LocalDateTime.now().plusMinutes(2))
+                .leaseToken("lease-" + attempts)
+                .build();
+    }
+}
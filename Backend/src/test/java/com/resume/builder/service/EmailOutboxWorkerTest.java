@@ -0,0 +1,108 @@
+package com.resume.builder.service;
+
+import com.mongodb.client.result.UpdateResult;
+import com.resume.builder.document.EmailJob;
+import com.resume.builder.repository.EmailJobRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class EmailOutboxWorkerTest {
+
+    private MongoTemplate mongoTemplate;
+    private EmailService emailService;
+    private EmailOutboxWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(EmailJob.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+        emailService = mock(EmailService.class);
+
+        worker = new EmailOutboxWorker(mongoTemplate, mock(EmailJobRepository.class), emailService,
+                mock(AttachmentStore.class), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(worker, "workers", 1);
+        ReflectionTestUtils.setField(worker, "queueCapacity", 10);
+        ReflectionTestUtils.setField(worker, "maxAttempts", 6);
+        ReflectionTestUtils.setField(worker, "backoffInitialMs", 5_000L);
+        ReflectionTestUtils.setField(worker, "backoffMaxMs", 3_600_000L);
+        ReflectionTestUtils.setField(worker, "leaseMs", 120_000L);
+        ReflectionTestUtils.setField(worker, "sendBatchSize", 10);
+        worker.init();
+    }
+
+    @Test
+    void unbuildableJobDoesNotFailTheRestOfItsBatch() throws Exception {
+
+        EmailJob good = job("job-1", "a@example.com");
+        EmailJob bad = job("job-2", "b@example.com");
+        EmailJob alsoGood = job("job-3", "c@example.com");
+
+        // Bulk batch: the first claimed job pulls in the other two
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class),
+                any(FindAndModifyOptions.class), eq(EmailJob.class)))
+                .thenReturn(bad, alsoGood, null);
+
+        MimeMessage goodMessage = new MimeMessage((Session) null);
+        MimeMessage alsoGoodMessage = new MimeMessage((Session) null);
+        when(emailService.createHtmlMessage(eq("a@example.com"), any(), any())).thenReturn(goodMessage);
+        when(emailService.createHtmlMessage(eq("b@example.com"), any(), any()))
+                .thenThrow(new MessagingException("Illegal address"));
+        when(emailService.createHtmlMessage(eq("c@example.com"), any(), any())).thenReturn(alsoGoodMessage);
+        when(emailService.sendAll(anyList())).thenAnswer(invocation ->
+                invocation.<List<MimeMessage>>getArgument(0).stream()
+                        .map(message -> new SmtpTransportPool.SendResult(message, null))
+                        .toList());
+
+        ReflectionTestUtils.invokeMethod(worker, "deliver", good);
+
+        // The other two go out together
+        verify(emailService).sendAll(List.of(goodMessage, alsoGoodMessage));
+
+        ArgumentCaptor<Query> queries = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> updates = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate, times(3)).updateFirst(queries.capture(), updates.capture(), eq(EmailJob.class));
+
+        for (int i = 0; i < 3; i++) {
+            Object id = queries.getAllValues().get(i).getQueryObject().get("_id");
+            Object status = updates.getAllValues().get(i).getUpdateObject()
+                    .get("$set", Document.class).get("status");
+            assertThat(status)
+                    .as("status of %s", id)
+                    .isEqualTo(id.equals("job-2") ? EmailJob.PENDING : EmailJob.SENT);
+        }
+    }
+
+    private static EmailJob job(String id, String to) {
+        return EmailJob.builder()
+                .id(id)
+                .batchId("batch-1")
+                .to(to)
+                .subject("Hello")
+                .body("<p>Hi</p>")
+                .html(true)
+                .status(EmailJob.SENDING)
+                .attempts(1)
+                .lockedUntil(LocalDateTime.now().plusMinutes(2))
+                .leaseToken("lease-" + id)
+                .build();
+    }
+}
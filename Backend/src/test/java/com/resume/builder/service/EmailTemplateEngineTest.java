@@ -0,0 +1,66 @@
+package com.resume.builder.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EmailTemplateEngineTest {
+
+    private EmailTemplateEngine engine;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        engine = new EmailTemplateEngine();
+        engine.loadTemplates();
+    }
+
+    @Test
+    void verificationTemplateIsFullySubstituted() {
+
+        String html = engine.render("verification",
+                Map.of("name", "Ada", "link", "https://app.example.com/verify?token=abc"));
+
+        assertThat(html)
+                .contains("Ada")
+                .contains("https://app.example.com/verify?token=abc")
+                .doesNotContain("{{");
+    }
+
+    @Test
+    void valuesAreHtmlEscaped() {
+
+        String html = engine.render("verification",
+                Map.of("name", "<script>alert('x')</script>", "link", "https://a.example/?a=1&b=\"2\""));
+
+        assertThat(html)
+                .doesNotContain("<script>")
+                .contains("&lt;script&gt;alert(&#39;x&#39;)&lt;/script&gt;")
+                .contains("https://a.example/?a=1&amp;b=&quot;2&quot;");
+    }
+
+    @Test
+    void reusedBufferDoesNotLeakEarlierRenders() {
+
+        String large = engine.render("verification",
+                Map.of("name", "x".repeat(100_000), "link", "https://a.example/long"));
+        String small = engine.render("verification",
+                Map.of("name", "Ada", "link", "https://a.example/short"));
+
+        assertThat(large).contains("https://a.example/long");
+        assertThat(small)
+                .contains("https://a.example/short")
+                .doesNotContain("xxx")
+                .doesNotContain("https://a.example/long");
+    }
+
+    @Test
+    void unknownTemplateIsRejected() {
+
+        assertThatThrownBy(() -> engine.render("missing", Map.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,68 @@
+package com.resume.builder.service;
+
+import com.resume.builder.document.ResumeRevision;
+import com.resume.builder.repository.ResumeRevisionRepository;
+import org.springframework.data.domain.Range;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ResumeRevisionRepository stub backed by sorted maps, answering the
+ * queries ResumeHistoryService uses (also used by ResumeHistoryBenchmark,
+ * hence stubOnly: no invocation recording).
+ */
+class InMemoryRevisions {
+
+    final List<ResumeRevision> stored = new ArrayList<>();
+    final ResumeRevisionRepository repository =
+            mock(ResumeRevisionRepository.class, withSettings().stubOnly());
+
+    private final Map<String, NavigableMap<Long, ResumeRevision>> byResume = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    InMemoryRevisions() {
+
+        when(repository.insert(any(ResumeRevision.class))).thenAnswer(invocation -> {
+            ResumeRevision entry = invocation.getArgument(0);
+            stored.add(entry);
+            of(entry.getResumeId()).put(entry.getRevision(), entry);
+            return entry;
+        });
+
+        when(repository.findFirstByResumeIdOrderByRevisionDesc(anyString())).thenAnswer(invocation ->
+                Optional.ofNullable(of(invocation.getArgument(0)).lastEntry()).map(Map.Entry::getValue));
+
+        when(repository.findByResumeIdAndRevision(anyString(), anyLong())).thenAnswer(invocation ->
+                Optional.ofNullable(of(invocation.getArgument(0)).get(invocation.<Long>getArgument(1))));
+
+        when(repository.findFirstByResumeIdAndTypeAndRevisionLessThanEqualOrderByRevisionDesc(
+                anyString(), anyString(), anyLong())).thenAnswer(invocation ->
+                of(invocation.getArgument(0))
+                        .headMap(invocation.<Long>getArgument(2), true)
+                        .descendingMap().values().stream()
+                        .filter(entry -> entry.getType().equals(invocation.getArgument(1)))
+                        .findFirst());
+
+        when(repository.findByResumeIdAndRevisionBetweenOrderByRevisionAsc(anyString(), any(Range.class)))
+                .thenAnswer(invocation -> {
+                    Range<Long> revisions = invocation.getArgument(1);
+                    return List.copyOf(of(invocation.getArgument(0))
+                            .subMap(revisions.getLowerBound().getValue().orElseThrow(), true,
+                                    revisions.getUpperBound().getValue().orElseThrow(), true)
+                            .values());
+                });
+    }
+
+    private NavigableMap<Long, ResumeRevision> of(String resumeId) {
+        return byResume.computeIfAbsent(resumeId, id -> new TreeMap<>());
+    }
+}
@@ -0,0 +1,101 @@
+package com.resume.builder.service;
+
+import com.resume.builder.document.RefreshToken;
+import com.resume.builder.exception.InvalidTokenException;
+import com.resume.builder.repository.RefreshTokenRepository;
+import com.resume.builder.security.TokenRevocationList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class RefreshTokenServiceTest {
+
+    private RefreshTokenRepository refreshTokenRepository;
+    private MongoTemplate mongoTemplate;
+    private TokenRevocationList tokenRevocationList;
+    private RefreshTokenService service;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenRepository = mock(RefreshTokenRepository.class);
+        mongoTemplate = mock(MongoTemplate.class);
+        tokenRevocationList = mock(TokenRevocationList.class);
+
+        service = new RefreshTokenService(refreshTokenRepository, mongoTemplate, tokenRevocationList);
+        ReflectionTestUtils.setField(service, "refreshExpirationMs", 60_000L);
+    }
+
+    @Test
+    void rotationIssuesANewTokenInTheSameFamily() {
+
+        RefreshTokenService.IssuedToken login = service.issue("user-1");
+        RefreshToken stored = captureInserted();
+
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class),
+                any(FindAndModifyOptions.class), eq(RefreshToken.class))).thenReturn(stored);
+
+        RefreshTokenService.IssuedToken next = service.rotate(login.rawToken());
+
+        assertThat(next.userId()).isEqualTo("user-1");
+        assertThat(next.familyId()).isEqualTo(login.familyId());
+        assertThat(next.rawToken()).isNotEqualTo(login.rawToken());
+
+        // Old token claimed (revoked) by hash and linked to its successor
+        ArgumentCaptor<Query> claim = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).findAndModify(claim.capture(), any(Update.class),
+                any(FindAndModifyOptions.class), eq(RefreshToken.class));
+        assertThat(claim.getValue().getQueryObject().get("_id")).isEqualTo(stored.getId());
+        assertThat(claim.getValue().getQueryObject().get("revoked")).isEqualTo(false);
+        verify(mongoTemplate).updateFirst(any(Query.class),
+                argThat(update -> update.getUpdateObject().toJson().contains("replacedBy")),
+                eq(RefreshToken.class));
+        verify(tokenRevocationList, never()).revoke(anyString(), anyString());
+    }
+
+    @Test
+    void reusingARotatedTokenRevokesTheWholeSession() {
+
+        RefreshTokenService.IssuedToken login = service.issue("user-1");
+        RefreshToken stored = captureInserted();
+        stored.setRevoked(true);
+
+        // Claim fails (already rotated) and the row shows it was revoked
+        when(refreshTokenRepository.findById(stored.getId())).thenReturn(Optional.of(stored));
+
+        assertThatThrownBy(() -> service.rotate(login.rawToken()))
+                .isInstanceOf(InvalidTokenException.class);
+
+        ArgumentCaptor<Query> family = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).updateMulti(family.capture(), any(Update.class), eq(RefreshToken.class));
+        assertThat(family.getValue().getQueryObject().get("familyId")).isEqualTo(login.familyId());
+        verify(tokenRevocationList).revoke(login.familyId(), "user-1");
+    }
+
+    @Test
+    void unknownTokenIsRejectedWithoutRevokingAnything() {
+
+        assertThatThrownBy(() -> service.rotate("never-issued"))
+                .isInstanceOf(InvalidTokenException.class);
+
+        verify(mongoTemplate, never()).updateMulti(any(Query.class), any(Update.class), eq(RefreshToken.class));
+        verify(tokenRevocationList, never()).revoke(anyString(), anyString());
+    }
+
+    private RefreshToken captureInserted() {
+        ArgumentCaptor<RefreshToken> inserted = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).insert(inserted.capture());
+        return inserted.getValue();
+    }
+}
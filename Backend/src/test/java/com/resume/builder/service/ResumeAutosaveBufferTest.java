@@ -0,0 +1,154 @@
+package com.resume.builder.service;
+
+import com.mongodb.bulk.BulkWriteResult;
+import com.resume.builder.document.Resume;
+import com.resume.builder.exception.ResourceNotFoundException;
+import com.resume.builder.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ResumeAutosaveBufferTest {
+
+    private final CountDownLatch flushStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseFlush = new CountDownLatch(1);
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    private MongoTemplate mongoTemplate;
+    private BulkWriteResult bulkWriteResult;
+    private ResumeThumbnailService resumeThumbnailService;
+    private ResumeHistoryService resumeHistoryService;
+    private SimpleMeterRegistry meterRegistry;
+    private ResumeAutosaveBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        bulkWriteResult = mock(BulkWriteResult.class);
+        when(mongoTemplate.getConverter()).thenReturn(
+                new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, new MongoMappingContext()));
+
+        // Every resume belongs to user-1
+        when(mongoTemplate.exists(any(Query.class), eq(Resume.class))).thenAnswer(invocation ->
+                "user-1".equals(invocation.<Query>getArgument(0).getQueryObject().get("userId")));
+
+        // Slow database: the first bulk write blocks until released
+        BulkOperations operations = mock(BulkOperations.class);
+        when(mongoTemplate.bulkOps(eq(BulkOperations.BulkMode.UNORDERED), eq(Resume.class)))
+                .thenReturn(operations);
+        when(operations.execute()).thenAnswer(invocation -> {
+            flushStarted.countDown();
+            releaseFlush.await(10, TimeUnit.SECONDS);
+            return bulkWriteResult;
+        });
+
+        resumeThumbnailService = mock(ResumeThumbnailService.class);
+        resumeHistoryService = mock(ResumeHistoryService.class);
+        buffer = new ResumeAutosaveBuffer(mongoTemplate, resumeThumbnailService,
+                resumeHistoryService, meterRegistry = new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(buffer, "maxEntries", 1000);
+        ReflectionTestUtils.setField(buffer, "maxBytes", 1_000L);
+        ReflectionTestUtils.setField(buffer, "flushWaitMs", 200L);
+        buffer.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseFlush.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void fullBufferRejectsWritesWhileAFlushIsStuck() throws Exception {
+
+        // Fills the buffer and starts a flush that hangs in the database
+        executor.submit(() -> buffer.accept("resume-1", "user-1", new Resume(), 1_000));
+        assertThat(flushStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // Room again (the flush took the batch), so this one is buffered...
+        buffer.accept("resume-2", "user-1", new Resume(), 1_000);
+
+        // ...and the buffer is full while the flush is still running
+        assertThatThrownBy(() -> buffer.accept("resume-3", "user-1", new Resume(), 10))
+                .isInstanceOf(ServiceUnavailableException.class);
+    }
+
+    @Test
+    void fullBufferIsFlushedBeforeTakingMore() {
+
+        releaseFlush.countDown();
+
+        buffer.accept("resume-1", "user-1", new Resume(), 1_000);
+        buffer.accept("resume-2", "user-1", new Resume(), 1_000);
+        buffer.accept("resume-3", "user-1", new Resume(), 1_000);
+
+        assertThat(flushStarted.getCount()).isZero();
+    }
+
+    @Test
+    void onlyWrittenResumesGetThumbnailAndHistoryUpdates() {
+
+        releaseFlush.countDown();
+        buffer.accept("resume-1", "user-1", new Resume(), 10);
+        buffer.accept("resume-2", "user-1", new Resume(), 10);
+
+        // resume-2 was saved by a newer PUT, so only resume-1 matched
+        when(bulkWriteResult.getMatchedCount()).thenReturn(1);
+        Resume written = new Resume();
+        written.setId("resume-1");
+        when(mongoTemplate.find(any(Query.class), eq(Resume.class))).thenReturn(List.of(written));
+
+        buffer.flush();
+
+        verify(resumeThumbnailService).refresh("resume-1");
+        verify(resumeHistoryService).record("resume-1");
+        verify(resumeThumbnailService, never()).refresh("resume-2");
+        verify(resumeHistoryService, never()).record("resume-2");
+    }
+
+    @Test
+    void nothingIsQueuedWhenNoAutosaveMatched() {
+
+        releaseFlush.countDown();
+        buffer.accept("resume-1", "user-1", new Resume(), 10);
+
+        buffer.flush();
+
+        verify(mongoTemplate, never()).find(any(Query.class), eq(Resume.class));
+        verifyNoInteractions(resumeThumbnailService, resumeHistoryService);
+    }
+
+    @Test
+    void autosaveForSomeoneElsesResumeIsNotBuffered() {
+
+        buffer.accept("resume-1", "user-1", new Resume(), 10);
+
+        // Neither replaces the owner's draft nor takes a buffer slot
+        assertThatThrownBy(() -> buffer.accept("resume-1", "user-2", new Resume(), 10))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> buffer.accept("made-up", "user-2", new Resume(), 10))
+                .isInstanceOf(ResourceNotFoundException.class);
+
+        assertThat(meterRegistry.get("resume.autosave.buffer.size").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("resume.autosave.buffer.bytes").gauge().value()).isEqualTo(10);
+    }
+}
@@ -0,0 +1,126 @@
+package com.resume.builder.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resume.builder.document.Resume;
+import com.resume.builder.document.SampleResumes;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ResumeExportServiceTest {
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ResumeExportService service;
+    private List<Resume> resumes;
+
+    // Set when the cursor stream is closed
+    private final AtomicBoolean cursorClosed = new AtomicBoolean();
+
+    @BeforeEach
+    void setUp() {
+        service = new ResumeExportService(mongoTemplate, objectMapper,
+                new JsonResumeMapper(objectMapper), meterRegistry);
+
+        resumes = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Resume resume = SampleResumes.of(2);
+            resume.setId("resume-" + i);
+            resume.setUserId("user-" + (i % 2));
+            resume.setTitle("Resume " + i);
+            resumes.add(resume);
+        }
+        when(mongoTemplate.stream(any(Query.class), eq(Resume.class)))
+                .thenAnswer(invocation -> resumes.stream().onClose(() -> cursorClosed.set(true)));
+    }
+
+    @Test
+    void ndjsonWritesOneResumePerLineForTheUser() throws Exception {
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = service.exportUser("user-0", ResumeExportService.Format.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(count).isEqualTo(3);
+        assertThat(lines).hasSize(3);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("_id").asText()).isEqualTo("resume-0");
+        assertThat(first.get("title").asText()).isEqualTo("Resume 0");
+
+        // Scoped to the user, newest first, read in cursor batches
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).stream(query.capture(), eq(Resume.class));
+        assertThat(query.getValue().getQueryObject()).containsEntry("userId", "user-0");
+        assertThat(query.getValue().getSortObject()).containsEntry("updatedAt", -1).containsEntry("_id", -1);
+        assertThat(cursorClosed).isTrue();
+        assertThat(meterRegistry.get("resume.export.documents")
+                .tags("format", "ndjson", "scope", "user").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    void fullBackupZipGroupsJsonResumesByUser() throws Exception {
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = service.exportAll(ResumeExportService.Format.ZIP, out);
+
+        List<String> names = new ArrayList<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                names.add(entry.getName());
+                JsonNode jsonResume = objectMapper.readTree(zip.readAllBytes());
+                assertThat(jsonResume.has("basics")).as(entry.getName()).isTrue();
+            }
+        }
+
+        assertThat(count).isEqualTo(3);
+        assertThat(names).containsExactly(
+                "user-0/resume-0.json", "user-1/resume-1.json", "user-0/resume-2.json");
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).stream(query.capture(), eq(Resume.class));
+        assertThat(query.getValue().getQueryObject()).isEmpty();
+        assertThat(meterRegistry.get("resume.export.documents")
+                .tags("format", "zip", "scope", "all").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    void cursorIsClosedWhenTheClientDisconnects() {
+
+        OutputStream disconnected = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        assertThatThrownBy(() -> service.exportUser("user-0", ResumeExportService.Format.NDJSON, disconnected))
+                .isInstanceOf(IOException.class);
+        assertThat(cursorClosed).isTrue();
+    }
+}
@@ -0,0 +1,106 @@
+package com.resume.builder.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resume.builder.document.Resume;
+import com.resume.builder.repository.ResumeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Cost of reading a revision out of a deep history. Setup replays
+ * thousands of edits through the real capture path; reads should cost the
+ * same at any depth because at most snapshot-interval deltas are applied.
+ * The store is in memory, so this is the CPU part (parse + patch replay);
+ * against MongoDB each read adds the same two indexed queries.
+ *
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark=ResumeHistory
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResumeHistoryBenchmark {
+
+    @Param({"1000", "5000"})
+    public int versions;
+
+    // 100000 = effectively no snapshots, the unbounded baseline
+    @Param({"20", "100000"})
+    public int snapshotInterval;
+
+    private ResumeHistoryService service;
+
+    @Setup(Level.Trial)
+    public void replayEdits() {
+
+        Resume resume = new Resume();
+        resume.setId("resume-1");
+        resume.setUserId("user-1");
+        resume.setTitle("Resume");
+        resume.setSkills(new ArrayList<>());
+        resume.setWorkExperience(new ArrayList<>());
+        resume.setProfileInfo(new Resume.ProfileInfo(null, "Jane Doe", "Engineer", "Summary"));
+        resume.setVersion(0L);
+
+        ResumeRepository resumeRepository = mock(ResumeRepository.class, withSettings().stubOnly());
+        when(resumeRepository.findById("resume-1")).thenAnswer(invocation -> Optional.of(resume));
+
+        service = new ResumeHistoryService(resumeRepository, new InMemoryRevisions().repository,
+                new ObjectMapper(), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "snapshotInterval", snapshotInterval);
+        ReflectionTestUtils.setField(service, "cacheSize", 100);
+        ReflectionTestUtils.setField(service, "queueCapacity", 10);
+        ReflectionTestUtils.invokeMethod(service, "init");
+
+        for (int i = 0; i <= versions; i++) {
+            if (i > 0) {
+                edit(resume, i);
+            }
+            ReflectionTestUtils.invokeMethod(service, "capture", "resume-1");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdown() {
+        ReflectionTestUtils.invokeMethod(service, "shutdown");
+    }
+
+    @Benchmark
+    public JsonNode readNewest() {
+        return service.getContent("resume-1", "user-1", versions);
+    }
+
+    @Benchmark
+    public JsonNode readRandom() {
+        return service.getContent("resume-1", "user-1",
+                ThreadLocalRandom.current().nextLong(versions + 1));
+    }
+
+    // Typical editor session: a few fields change per save, lists grow
+    private static void edit(Resume resume, int i) {
+        switch (i % 3) {
+            case 0 -> resume.setTitle("Resume v" + i);
+            case 1 -> {
+                List<Resume.Skill> skills = resume.getSkills();
+                skills.add(new Resume.Skill("Skill " + i, i % 100));
+                if (skills.size() > 30) {
+                    skills.remove(0);
+                }
+            }
+            default -> resume.getProfileInfo().setSummary("Summary after edit " + i);
+        }
+        resume.setVersion(resume.getVersion() + 1);
+    }
+}
@@ -0,0 +1,157 @@
+package com.resume.builder.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resume.builder.document.Resume;
+import com.resume.builder.document.ResumeRevision;
+import com.resume.builder.repository.ResumeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+class ResumeHistoryServiceTest {
+
+    private static final int SNAPSHOT_INTERVAL = 5;
+
+    private final InMemoryRevisions revisions = new InMemoryRevisions();
+    private final Map<Long, JsonNode> saved = new HashMap<>();
+
+    private ResumeHistoryService service;
+    private Resume resume;
+
+    @BeforeEach
+    void setUp() {
+        resume = new Resume();
+        resume.setId("resume-1");
+        resume.setUserId("user-1");
+        resume.setTitle("Resume");
+        resume.setSkills(new ArrayList<>());
+        resume.setWorkExperience(new ArrayList<>());
+        resume.setInterests(new ArrayList<>(List.of("chess")));
+        resume.setProfileInfo(new Resume.ProfileInfo(null, "Jane Doe", "Engineer", "Summary"));
+        resume.setVersion(0L);
+
+        ResumeRepository resumeRepository = mock(ResumeRepository.class);
+        when(resumeRepository.findById("resume-1")).thenAnswer(invocation -> Optional.of(resume));
+
+        service = new ResumeHistoryService(resumeRepository, revisions.repository,
+                new ObjectMapper(), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "snapshotInterval", SNAPSHOT_INTERVAL);
+        ReflectionTestUtils.setField(service, "cacheSize", 100);
+        ReflectionTestUtils.setField(service, "queueCapacity", 10);
+        service.init();
+    }
+
+    @Test
+    void everyRevisionRebuildsToTheContentThatWasSaved() {
+
+        for (int i = 1; i <= 47; i++) {
+            edit(i);
+        }
+
+        assertThat(revisions.stored).hasSize(48);
+        saved.forEach((revision, content) ->
+                assertThat(service.getContent("resume-1", "user-1", revision))
+                        .as("revision %d", revision)
+                        .isEqualTo(content));
+    }
+
+    @Test
+    void deltaChainsNeverExceedTheSnapshotInterval() {
+
+        for (int i = 1; i <= 47; i++) {
+            edit(i);
+        }
+
+        assertThat(revisions.stored).allSatisfy(entry ->
+                assertThat(entry.getDepth()).isLessThan(SNAPSHOT_INTERVAL));
+        assertThat(revisions.stored)
+                .filteredOn(entry -> ResumeRevision.SNAPSHOT.equals(entry.getType()))
+                .extracting(ResumeRevision::getRevision)
+                .containsExactly(0L, 5L, 10L, 15L, 20L, 25L, 30L, 35L, 40L, 45L);
+    }
+
+    @Test
+    void headIsRebuiltFromStoredHistoryAfterCacheEviction() {
+
+        for (int i = 1; i <= 12; i++) {
+            edit(i);
+        }
+
+        // Restart / LRU eviction: next capture diffs against the stored chain
+        ((Map<?, ?>) ReflectionTestUtils.getField(service, "heads")).clear();
+
+        for (int i = 13; i <= 20; i++) {
+            edit(i);
+        }
+
+        saved.forEach((revision, content) ->
+                assertThat(service.getContent("resume-1", "user-1", revision)).isEqualTo(content));
+    }
+
+    @Test
+    void versionBumpWithoutContentChangeIsNotRecorded() {
+
+        edit(1);
+
+        // e.g. thumbnail link written by a worker
+        resume.setThumbnailLink("https://cdn.example.com/thumb.png");
+        resume.setVersion(resume.getVersion() + 1);
+        capture();
+
+        assertThat(revisions.stored).hasSize(2);
+    }
+
+    @Test
+    void revisionsOfAnotherUsersResumeAreNotReadable() {
+
+        edit(1);
+
+        assertThatThrownBy(() -> service.getContent("resume-1", "user-2", 1))
+                .hasMessage("Resume version not found");
+    }
+
+    /**
+     * Apply a varied edit (adds, removals, nested and reordered fields), save and capture it.
+     */
+    private void edit(int i) {
+
+        if (saved.isEmpty()) {
+            capture();
+        }
+
+        switch (i % 4) {
+            case 0 -> resume.setTitle("Resume v" + i);
+            case 1 -> resume.getSkills().add(new Resume.Skill("Skill " + i, i % 100));
+            case 2 -> {
+                resume.getWorkExperience().add(0, new Resume.WorkExperience(
+                        "Company " + i, "Role", "2020", null, "Did things " + i));
+                if (resume.getWorkExperience().size() > 3) {
+                    resume.getWorkExperience().remove(3);
+                }
+            }
+            default -> {
+                resume.getProfileInfo().setSummary("Summary " + i);
+                resume.getInterests().add(0, "interest " + i);
+            }
+        }
+        resume.setVersion(resume.getVersion() + 1);
+        capture();
+    }
+
+    private void capture() {
+        saved.put(resume.getVersion(), service.contentOf(resume));
+        ReflectionTestUtils.invokeMethod(service, "capture", "resume-1");
+    }
+}
@@ -0,0 +1,115 @@
+package com.resume.builder.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.resume.builder.document.Resume;
+import com.resume.builder.dto.ResumeImportResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ResumeImportServiceTest {
+
+    private MongoTemplate mongoTemplate;
+    private BulkOperations bulkOperations;
+    private ResumeImportService service;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        bulkOperations = mock(BulkOperations.class);
+        when(mongoTemplate.bulkOps(eq(BulkOperations.BulkMode.UNORDERED), eq(Resume.class)))
+                .thenReturn(bulkOperations);
+        when(bulkOperations.insert(anyList())).thenReturn(bulkOperations);
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        service = new ResumeImportService(
+                mongoTemplate,
+                objectMapper,
+                new JsonResumeMapper(objectMapper),
+                new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "batchSize", 500);
+        ReflectionTestUtils.setField(service, "maxRecords", 10_000);
+        ReflectionTestUtils.setField(service, "maxRecordBytes", 1_024);
+        service.init();
+    }
+
+    @Test
+    void bulkWriteErrorOnlyFailsItsOwnRecord() throws Exception {
+
+        // Record 1 is rejected by validation, so record 2 is the second document of the batch
+        String ndjson = """
+                {"basics":{"name":"Ada"}}
+                [1]
+                {"basics":{"name":"Grace"}}
+                {"basics":{"name":"Linus"}}
+                """;
+
+        BulkWriteError duplicate = new BulkWriteError(11000, "E11000 duplicate key", new BsonDocument(), 1);
+        when(bulkOperations.execute()).thenThrow(new BulkOperationException("bulk write failed",
+                new MongoBulkWriteException(BulkWriteResult.unacknowledged(), List.of(duplicate),
+                        null, new ServerAddress(), Set.of())));
+
+        ResumeImportResult result = service.importResumes("user-1",
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getFailed()).isEqualTo(2);
+        assertThat(result.getErrors())
+                .extracting(ResumeImportResult.RecordError::getIndex)
+                .containsExactly(1, 2);
+    }
+
+    @Test
+    void oversizedRecordIsSkippedWithoutStoppingTheImport() throws Exception {
+
+        String big = "x".repeat(200);
+        StringBuilder highlights = new StringBuilder();
+        for (int i = 0; i < 20; i++) {
+            highlights.append(i == 0 ? "" : ",").append('"').append(big).append('"');
+        }
+        String json = "[{\"basics\":{\"name\":\"Ada\"}},"
+                + "{\"work\":[{\"name\":\"Acme\",\"highlights\":[" + highlights + "]}]},"
+                + "{\"basics\":{\"name\":\"Grace\"}}]";
+
+        ResumeImportResult result = service.importResumes("user-1",
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getErrors())
+                .extracting(ResumeImportResult.RecordError::getIndex)
+                .containsExactly(1);
+        assertThat(result.getErrors().get(0).getMessage()).contains("larger than 1024 bytes");
+    }
+
+    @Test
+    void oversizedStringStopsTheImportInsteadOfBufferingIt() throws Exception {
+
+        String json = "[{\"basics\":{\"name\":\"Ada\"}},"
+                + "{\"basics\":{\"summary\":\"" + "x".repeat(5_000) + "\"}}]";
+
+        ResumeImportResult result = service.importResumes("user-1",
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(result.getImported()).isEqualTo(1);
+        assertThat(result.getErrors()).singleElement()
+                .satisfies(error -> assertThat(error.getMessage()).contains("rest of the file was skipped"));
+    }
+}
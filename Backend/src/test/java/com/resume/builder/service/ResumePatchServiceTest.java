@@ -0,0 +1,151 @@
+package com.resume.builder.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resume.builder.document.Resume;
+import com.resume.builder.exception.InvalidPatchException;
+import com.resume.builder.exception.PatchConflictException;
+import com.resume.builder.exception.PreconditionFailedException;
+import com.resume.builder.repository.ResumeRepository;
+import com.resume.builder.repository.ResumeRevisionRepository;
+import com.resume.builder.security.CurrentUserContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ResumePatchServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private MongoTemplate mongoTemplate;
+    private ResumePatchService service;
+    private Resume stored;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        when(mongoTemplate.getConverter()).thenReturn(
+                new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, new MongoMappingContext()));
+
+        CurrentUserContext currentUserContext = mock(CurrentUserContext.class);
+        when(currentUserContext.getUserId()).thenReturn("user-1");
+
+        ResumeHistoryService history = spy(new ResumeHistoryService(
+                mock(ResumeRepository.class), mock(ResumeRevisionRepository.class),
+                objectMapper, new SimpleMeterRegistry()));
+        doNothing().when(history).record(anyString());
+
+        service = new ResumePatchService(mongoTemplate, objectMapper, currentUserContext,
+                mock(ResumeThumbnailService.class), history);
+
+        stored = new Resume();
+        stored.setTitle("Resume");
+        stored.setInterests(new ArrayList<>(Arrays.asList("chess", null, "go")));
+        stored.setSkills(List.of(Resume.Skill.builder().name("Java").progress(90).build()));
+        stored.setVersion(5L);
+        when(mongoTemplate.findOne(any(Query.class), eq(Resume.class))).thenReturn(stored);
+    }
+
+    @Test
+    void removingAnArrayElementKeepsOtherNulls() throws Exception {
+
+        Resume written = new Resume();
+        written.setVersion(6L);
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class),
+                any(FindAndModifyOptions.class), eq(Resume.class))).thenReturn(written);
+
+        Long version = service.patch("resume-1",
+                json("[{\"op\":\"remove\",\"path\":\"/interests/0\"}]"), true, null);
+
+        assertThat(version).isEqualTo(6L);
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).findAndModify(query.capture(), update.capture(),
+                any(FindAndModifyOptions.class), eq(Resume.class));
+
+        // One write, guarded by the version that was read
+        assertThat(query.getValue().getQueryObject()).containsEntry("version", 5L);
+        Document set = update.getValue().getUpdateObject().get("$set", Document.class);
+        assertThat(set.getList("interests", Object.class)).containsExactly(null, "go");
+        assertThat(set).doesNotContainKeys("title", "skills");
+        assertThat(update.getValue().getUpdateObject()).doesNotContainKeys("$unset", "$pull");
+    }
+
+    @Test
+    void addPastTheEndOfAnArrayIsRejected() {
+
+        assertThatThrownBy(() -> service.patch("resume-1",
+                json("[{\"op\":\"add\",\"path\":\"/interests/5\",\"value\":\"golf\"}]"), true, null))
+                .isInstanceOf(InvalidPatchException.class);
+
+        verify(mongoTemplate, never()).findAndModify(any(Query.class), any(Update.class),
+                any(FindAndModifyOptions.class), eq(Resume.class));
+    }
+
+    @Test
+    void replaceOutOfRangeIsRejected() {
+
+        assertThatThrownBy(() -> service.patch("resume-1",
+                json("[{\"op\":\"replace\",\"path\":\"/skills/1/name\",\"value\":\"Go\"}]"), true, null))
+                .isInstanceOf(InvalidPatchException.class);
+    }
+
+    @Test
+    void failedTestOperationIsAConflict() {
+
+        assertThatThrownBy(() -> service.patch("resume-1", json("""
+                [{"op":"test","path":"/skills/0/name","value":"Kotlin"},
+                 {"op":"replace","path":"/skills/0/name","value":"Go"}]
+                """), true, null))
+                .isInstanceOf(PatchConflictException.class);
+    }
+
+    @Test
+    void concurrentWriteIsReappliedWithoutIfMatch() throws Exception {
+
+        Resume written = new Resume();
+        written.setVersion(7L);
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class),
+                any(FindAndModifyOptions.class), eq(Resume.class))).thenReturn(null, written);
+
+        Long version = service.patch("resume-1",
+                json("[{\"op\":\"add\",\"path\":\"/interests/-\",\"value\":\"golf\"}]"), true, null);
+
+        assertThat(version).isEqualTo(7L);
+        verify(mongoTemplate, times(2)).findOne(any(Query.class), eq(Resume.class));
+    }
+
+    @Test
+    void concurrentWriteFailsWhenIfMatchWasSent() {
+
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class),
+                any(FindAndModifyOptions.class), eq(Resume.class))).thenReturn(null);
+
+        assertThatThrownBy(() -> service.patch("resume-1",
+                json("[{\"op\":\"add\",\"path\":\"/interests/-\",\"value\":\"golf\"}]"), true, 5L))
+                .isInstanceOf(PreconditionFailedException.class);
+    }
+
+    private JsonNode json(String value) throws Exception {
+        return objectMapper.readTree(value);
+    }
+}
@@ -0,0 +1,70 @@
+package com.resume.builder.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resume.builder.document.Resume;
+import com.resume.builder.document.SampleResumes;
+import com.resume.builder.repository.ResumeRepository;
+import com.resume.builder.security.CurrentUserContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * GET /api/resumes/{id}/pdf throughput: cold (every request is a new
+ * content hash, so it renders) vs warm (same content, served from the
+ * render cache). Both include the content hash; the repository is stubbed.
+ *
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark=ResumePdf
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResumePdfBenchmark {
+
+    // Entries per list section (work, projects, skills, ...)
+    @Param({"3", "15"})
+    public int entries;
+
+    private ResumePdfService service;
+    private Resume resume;
+    private long edits;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+
+        resume = SampleResumes.of(entries);
+
+        ResumeRepository resumeRepository = mock(ResumeRepository.class, withSettings().stubOnly());
+        when(resumeRepository.findByUserIdAndId(anyString(), anyString()))
+                .thenAnswer(invocation -> Optional.of(resume));
+        CurrentUserContext currentUserContext = mock(CurrentUserContext.class, withSettings().stubOnly());
+        when(currentUserContext.getUserId()).thenReturn("user-1");
+
+        service = new ResumePdfService(resumeRepository, currentUserContext, new ResumePdfRenderer(),
+                new ObjectMapper().findAndRegisterModules(), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "maxCacheBytes", 32L * 1024 * 1024);
+        ReflectionTestUtils.invokeMethod(service, "init");
+    }
+
+    @Benchmark
+    public byte[] cold() {
+        // Any edit changes the hash → cache miss
+        resume.setTitle("Jane Doe - Backend Engineer " + edits++);
+        return service.getPdf(resume.getId()).content();
+    }
+
+    @Benchmark
+    public byte[] warm() {
+        resume.setTitle("Jane Doe - Backend Engineer");
+        return service.getPdf(resume.getId()).content();
+    }
+}
@@ -0,0 +1,163 @@
+package com.resume.builder.service;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.IndexOptions;
+import com.resume.builder.document.Resume;
+import com.resume.builder.document.SampleResumes;
+import com.resume.builder.dto.ResumeSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Search against a real MongoDB with the text index the service creates.
+ * Skipped when Docker is not available.
+ */
+@DataMongoTest
+@Testcontainers(disabledWithoutDocker = true)
+@Import({ResumeSearchService.class, ResumeSearchServiceTest.Metrics.class})
+class ResumeSearchServiceTest {
+
+    private static final String[] TECHNOLOGIES = {
+            "Kafka", "Spring", "Kubernetes", "Postgres", "Redis", "React", "Terraform",
+            "Elasticsearch", "GraphQL", "Rust", "Golang", "Airflow", "Spark", "Flink", "Cassandra"
+    };
+
+    @Container
+    @ServiceConnection
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    @TestConfiguration
+    static class Metrics {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private ResumeSearchService resumeSearchService;
+
+    @Test
+    void titleMatchesRankAboveDescriptionMatches() {
+
+        Resume inDescription = resume("ranking-user", "Platform Engineer");
+        inDescription.getProjects().get(0).setDescription("Quasar telemetry pipeline");
+        Resume inSkills = resume("ranking-user", "Data Engineer");
+        inSkills.getSkills().get(0).setName("Quasar Streams");
+        Resume inTitle = resume("ranking-user", "Quasar");
+        mongoTemplate.insertAll(List.of(inDescription, inSkills, inTitle));
+
+        List<ResumeSummary> results = resumeSearchService.search("ranking-user", "quasar", 20);
+
+        // Weights: title 10 > skills.name 8 > projects.description 1
+        assertThat(results).extracting(ResumeSummary::getTitle)
+                .containsExactly("Quasar", "Data Engineer", "Platform Engineer");
+        assertThat(results).extracting(ResumeSummary::getScore)
+                .isSortedAccordingTo(Comparator.reverseOrder());
+    }
+
+    @Test
+    void resultsAreScopedToTheUser() {
+
+        Resume own = resume("owner", "Nebula Engineer");
+        Resume foreign = resume("someone-else", "Nebula Architect");
+        mongoTemplate.insertAll(List.of(own, foreign));
+
+        assertThat(resumeSearchService.search("owner", "nebula", 20))
+                .extracting(ResumeSummary::getTitle)
+                .containsExactly("Nebula Engineer");
+        assertThat(resumeSearchService.search("nobody", "nebula", 20)).isEmpty();
+    }
+
+    @Test
+    void startupFailsWhenTheTextIndexCannotBeCreated() {
+
+        MongoCollection<Document> resumes = mongoTemplate.getCollection(
+                mongoTemplate.getCollectionName(Resume.class));
+
+        // Only one text index per collection: a different one blocks ours
+        resumes.dropIndex(ResumeSearchService.INDEX_NAME);
+        resumes.createIndex(new Document("title", "text"), new IndexOptions().name("conflicting"));
+        try {
+            ResumeSearchService service = new ResumeSearchService(mongoTemplate, new SimpleMeterRegistry());
+
+            assertThatThrownBy(() -> ReflectionTestUtils.invokeMethod(service, "init"))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining(ResumeSearchService.INDEX_NAME);
+        } finally {
+            resumes.dropIndex("conflicting");
+            ReflectionTestUtils.invokeMethod(resumeSearchService, "init");
+        }
+    }
+
+    @Test
+    void p99LatencyFor500ResumesIsUnder20ms() {
+
+        // 500 tailored resumes for the user, 500 for someone else in the same index
+        Random random = new Random(42);
+        List<Resume> resumes = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            Resume resume = SampleResumes.of(5);
+            resume.setId(null);
+            resume.setUserId(i % 2 == 0 ? "user-1" : "user-2");
+            resume.setTitle("Backend Engineer " + TECHNOLOGIES[random.nextInt(TECHNOLOGIES.length)]);
+            resume.getSkills().forEach(skill ->
+                    skill.setName(TECHNOLOGIES[random.nextInt(TECHNOLOGIES.length)]));
+            resume.getProjects().forEach(project -> project.setDescription(
+                    TECHNOLOGIES[random.nextInt(TECHNOLOGIES.length)] + " pipeline for "
+                            + TECHNOLOGIES[random.nextInt(TECHNOLOGIES.length)] + " events"));
+            resumes.add(resume);
+        }
+        mongoTemplate.insertAll(resumes);
+
+        // Warm up connection pool, plan cache and index pages
+        for (int i = 0; i < 200; i++) {
+            resumeSearchService.search("user-1", TECHNOLOGIES[i % TECHNOLOGIES.length], 20);
+        }
+
+        long[] nanos = new long[1000];
+        for (int i = 0; i < nanos.length; i++) {
+            String query = TECHNOLOGIES[random.nextInt(TECHNOLOGIES.length)];
+            long start = System.nanoTime();
+            resumeSearchService.search("user-1", query, 20);
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+
+        long p99Ms = nanos[(int) (nanos.length * 0.99) - 1] / 1_000_000;
+        assertThat(p99Ms).as("search p99 (ms)").isLessThan(20);
+    }
+
+    private static Resume resume(String userId, String title) {
+        Resume resume = SampleResumes.of(1);
+        resume.setId(null);
+        resume.setUserId(userId);
+        resume.setTitle(title);
+        return resume;
+    }
+}
@@ -0,0 +1,207 @@
+package com.resume.builder.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resume.builder.document.Resume;
+import com.resume.builder.document.User;
+import com.resume.builder.dto.ResumePage;
+import com.resume.builder.exception.InvalidCursorException;
+import com.resume.builder.exception.PreconditionFailedException;
+import com.resume.builder.repository.ResumeRepository;
+import com.resume.builder.security.CurrentUserContext;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ResumeServiceTest {
+
+    private ResumeRepository resumeRepository;
+    private MongoTemplate mongoTemplate;
+    private ResumeService service;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        resumeRepository = mock(ResumeRepository.class);
+        mongoTemplate = mock(MongoTemplate.class);
+        when(mongoTemplate.getConverter()).thenReturn(
+                new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, new MongoMappingContext()));
+
+        service = new ResumeService(
+                resumeRepository,
+                mongoTemplate,
+                mock(CurrentUserContext.class),
+                mock(ResumeThumbnailService.class),
+                mock(ResumeAutosaveBuffer.class),
+                mock(ResumeHistoryService.class),
+                new ObjectMapper());
+
+        user = User.builder().id("user-1").build();
+
+        Resume stored = new Resume();
+        stored.setId("resume-1");
+        stored.setUserId("user-1");
+        stored.setThumbnailLink("https://cdn/thumb.png");
+        stored.setThumbnailHash("hash");
+        stored.setVersion(3L);
+        when(resumeRepository.findByUserIdAndId("user-1", "resume-1")).thenReturn(Optional.of(stored));
+    }
+
+    @Test
+    void updateLeavesThumbnailFieldsAlone() {
+
+        Resume edited = new Resume();
+        edited.setTitle("New title");
+        edited.setThumbnailLink("https://stale/thumb.png");
+
+        Resume saved = new Resume();
+        saved.setVersion(4L);
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class),
+                any(FindAndModifyOptions.class), eq(Resume.class))).thenReturn(saved);
+
+        assertThat(service.updateResume("resume-1", edited, user, 3L).getVersion()).isEqualTo(4L);
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).findAndModify(query.capture(), update.capture(),
+                any(FindAndModifyOptions.class), eq(Resume.class));
+
+        assertThat(query.getValue().getQueryObject()).containsEntry("version", 3L);
+        Document set = update.getValue().getUpdateObject().get("$set", Document.class);
+        assertThat(set).containsEntry("title", "New title")
+                .doesNotContainKeys("thumbnailLink", "thumbnailHash");
+        verify(resumeRepository, never()).save(any());
+    }
+
+    @Test
+    void cursorWalksEveryResumeOnceEvenWhenUpdatedAtTies() {
+
+        // Five resumes, three sharing one updatedAt
+        LocalDateTime tie = LocalDateTime.of(2025, 1, 20, 8, 12, 45);
+        List<Resume> stored = List.of(
+                summary(tie.plusMinutes(1)), summary(tie), summary(tie), summary(tie), summary(tie.minusMinutes(1)));
+        answerKeysetQueries(stored);
+
+        List<String> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            ResumePage page = service.getUserResumes(user, cursor, 2);
+            page.getResumes().forEach(resume -> seen.add(resume.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(seen).containsExactlyElementsOf(sortedNewestFirst(stored).stream().map(Resume::getId).toList());
+    }
+
+    @Test
+    void cursorEncodesTheLastRowOfThePage() {
+
+        LocalDateTime updatedAt = LocalDateTime.of(2025, 1, 20, 8, 12, 45);
+        Resume first = summary(updatedAt.plusMinutes(1));
+        Resume last = summary(updatedAt);
+        answerKeysetQueries(List.of(first, last, summary(updatedAt.minusMinutes(1))));
+
+        String cursor = service.getUserResumes(user, null, 2).getNextCursor();
+        service.getUserResumes(user, cursor, 2);
+
+        // Second query resumes strictly after (updatedAt, _id) of the last row
+        ArgumentCaptor<Query> queries = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate, times(2)).find(queries.capture(), eq(Resume.class));
+        Document after = queries.getAllValues().get(1).getQueryObject();
+        List<Document> or = after.getList("$or", Document.class);
+        assertThat(after).containsEntry("userId", "user-1");
+        assertThat(or).containsExactly(
+                new Document("updatedAt", new Document("$lt", updatedAt)),
+                new Document("updatedAt", updatedAt)
+                        .append("_id", new Document("$lt", new ObjectId(last.getId()))));
+    }
+
+    @Test
+    void tamperedOrForeignCursorIsRejected() {
+
+        String noSeparator = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("2025-01-20T08:12:45".getBytes(StandardCharsets.UTF_8));
+        String badId = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("2025-01-20T08:12:45|not-an-id".getBytes(StandardCharsets.UTF_8));
+
+        for (String cursor : List.of("%%%", "bm90LWEtY3Vyc29y", noSeparator, badId)) {
+            assertThatThrownBy(() -> service.getUserResumes(user, cursor, 20))
+                    .as(cursor)
+                    .isInstanceOf(InvalidCursorException.class);
+        }
+        verify(mongoTemplate, never()).find(any(Query.class), eq(Resume.class));
+    }
+
+    @Test
+    void concurrentChangeBetweenReadAndWriteIsRejected() {
+
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class),
+                any(FindAndModifyOptions.class), eq(Resume.class))).thenReturn(null);
+
+        assertThatThrownBy(() -> service.updateResume("resume-1", new Resume(), user, null))
+                .isInstanceOf(PreconditionFailedException.class);
+    }
+
+    private Resume summary(LocalDateTime updatedAt) {
+        Resume resume = new Resume();
+        resume.setId(new ObjectId().toHexString());
+        resume.setUserId("user-1");
+        resume.setUpdatedAt(updatedAt);
+        return resume;
+    }
+
+    private static List<Resume> sortedNewestFirst(List<Resume> resumes) {
+        return resumes.stream()
+                .sorted(Comparator.comparing(Resume::getUpdatedAt)
+                        .thenComparing(resume -> new ObjectId(resume.getId()))
+                        .reversed())
+                .toList();
+    }
+
+    /**
+     * Stands in for MongoDB: applies the keyset $or, the sort and the limit.
+     */
+    private void answerKeysetQueries(List<Resume> stored) {
+        when(mongoTemplate.find(any(Query.class), eq(Resume.class))).thenAnswer(invocation -> {
+            Query query = invocation.getArgument(0);
+            List<?> or = query.getQueryObject().get("$or", List.class);
+
+            return sortedNewestFirst(stored).stream()
+                    .filter(resume -> or == null || isAfter(resume, or))
+                    .limit(query.getLimit())
+                    .toList();
+        });
+    }
+
+    private static boolean isAfter(Resume resume, List<?> or) {
+        Document older = (Document) or.get(0);
+        Document tie = (Document) or.get(1);
+        LocalDateTime before = (LocalDateTime) older.get("updatedAt", Document.class).get("$lt");
+        ObjectId beforeId = (ObjectId) tie.get("_id", Document.class).get("$lt");
+
+        return resume.getUpdatedAt().isBefore(before)
+                || (resume.getUpdatedAt().equals(tie.get("updatedAt"))
+                && new ObjectId(resume.getId()).compareTo(beforeId) < 0);
+    }
+}
@@ -0,0 +1,148 @@
+package com.resume.builder.service;
+
+import com.cloudinary.Cloudinary;
+import com.cloudinary.Uploader;
+import com.mongodb.client.result.UpdateResult;
+import com.resume.builder.document.Resume;
+import com.resume.builder.repository.ResumeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ResumeThumbnailServiceTest {
+
+    private ResumeRepository resumeRepository;
+    private MongoTemplate mongoTemplate;
+    private ResumeThumbnailRenderer renderer;
+    private ResumeThumbnailService service;
+    private Resume stored;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stored = new Resume();
+        stored.setId("resume-1");
+        stored.setTitle("Resume");
+        stored.setVersion(3L);
+
+        resumeRepository = mock(ResumeRepository.class);
+        when(resumeRepository.findById("resume-1")).thenAnswer(invocation -> Optional.of(stored));
+
+        mongoTemplate = mock(MongoTemplate.class);
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(Resume.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+        Cloudinary cloudinary = mock(Cloudinary.class);
+        Uploader uploader = mock(Uploader.class);
+        when(cloudinary.uploader()).thenReturn(uploader);
+        when(uploader.upload(any(), anyMap()))
+                .thenReturn(Map.of("secure_url", "https://cdn.example.com/resume-1.png"));
+
+        renderer = mock(ResumeThumbnailRenderer.class);
+        when(renderer.render(any())).thenReturn(new byte[]{1});
+
+        service = new ResumeThumbnailService(resumeRepository, mongoTemplate, cloudinary, renderer,
+                new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "threads", 2);
+        ReflectionTestUtils.setField(service, "queueCapacity", 10);
+        service.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void unchangedVisualFieldsSkipTheRender() {
+
+        stored.setThumbnailHash(service.visualHash(stored));
+
+        // Save path: decided from the saved document, no queueing at all
+        service.refreshIfChanged(stored);
+        // Worker path: reloads and compares with the stored hash
+        service.refresh("resume-1");
+
+        verify(resumeRepository, timeout(5_000)).findById("resume-1");
+        verifyNoInteractions(renderer);
+        verify(mongoTemplate, never()).updateFirst(any(Query.class), any(Update.class), eq(Resume.class));
+    }
+
+    @Test
+    void nonVisualEditKeepsTheHash() {
+
+        String before = service.visualHash(stored);
+
+        stored.setInterests(List.of("chess"));
+        stored.setVersion(4L);
+
+        assertThat(service.visualHash(stored)).isEqualTo(before);
+    }
+
+    @Test
+    void thumbnailIsOnlyWrittenForTheRenderedVersion() {
+
+        service.refresh("resume-1");
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate, timeout(5_000)).updateFirst(query.capture(), update.capture(), eq(Resume.class));
+
+        assertThat(query.getValue().getQueryObject())
+                .containsEntry("_id", "resume-1")
+                .containsEntry("version", 3L);
+        assertThat(update.getValue().getUpdateObject().get("$set", Document.class))
+                .containsEntry("thumbnailHash", service.visualHash(stored));
+    }
+
+    @Test
+    void saveDuringARenderRerunsItAfterwardsNeverConcurrently() throws Exception {
+
+        CountDownLatch firstRenderStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstRender = new CountDownLatch(1);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        AtomicInteger renders = new AtomicInteger();
+
+        when(renderer.render(any())).thenAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            if (renders.incrementAndGet() == 1) {
+                firstRenderStarted.countDown();
+                releaseFirstRender.await(5, TimeUnit.SECONDS);
+            }
+            running.decrementAndGet();
+            return new byte[]{1};
+        });
+
+        service.refresh("resume-1");
+        assertThat(firstRenderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // Saved (and refreshed) while the first render is running
+        stored.setTitle("Renamed");
+        stored.setVersion(4L);
+        service.refresh("resume-1");
+        releaseFirstRender.countDown();
+
+        verify(mongoTemplate, timeout(5_000).times(2))
+                .updateFirst(any(Query.class), any(Update.class), eq(Resume.class));
+        assertThat(renders.get()).isEqualTo(2);
+        assertThat(maxRunning.get()).isEqualTo(1);
+    }
+}
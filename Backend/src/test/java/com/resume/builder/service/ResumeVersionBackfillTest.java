@@ -0,0 +1,44 @@
+package com.resume.builder.service;
+
+import com.mongodb.client.result.UpdateResult;
+import com.resume.builder.document.Resume;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ResumeVersionBackfillTest {
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final ResumeVersionBackfill backfill = new ResumeVersionBackfill(mongoTemplate);
+
+    @Test
+    void firstStartupBackfillsAndRecordsTheMigration() {
+
+        when(mongoTemplate.updateMulti(any(Query.class), any(Update.class), eq(Resume.class)))
+                .thenReturn(UpdateResult.acknowledged(3, 3L, null));
+
+        backfill.backfill();
+
+        verify(mongoTemplate).updateMulti(
+                argThat(query -> query.getQueryObject().toJson().contains("\"$exists\": false")),
+                any(Update.class), eq(Resume.class));
+        verify(mongoTemplate).insert(
+                argThat((Document marker) -> ResumeVersionBackfill.MIGRATION_ID.equals(marker.get("_id"))),
+                eq(ResumeVersionBackfill.MIGRATIONS));
+    }
+
+    @Test
+    void laterStartupsSkipTheScan() {
+
+        when(mongoTemplate.exists(any(Query.class), eq(ResumeVersionBackfill.MIGRATIONS))).thenReturn(true);
+
+        backfill.backfill();
+
+        verify(mongoTemplate, never()).updateMulti(any(Query.class), any(Update.class), eq(Resume.class));
+    }
+}
@@ -0,0 +1,105 @@
+package com.resume.builder.service;
+
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Messages per second against a local SMTP stand-in (GreenMail, with AUTH):
+ * a new connection per message (JavaMailSender.send, the old path) vs a
+ * pooled connection, one at a time and in batches. Loopback and no TLS,
+ * so the real gain is larger: a production connect also pays network
+ * round trips and the STARTTLS handshake.
+ *
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark=SmtpTransportPool
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SmtpTransportPoolBenchmark {
+
+    private static final int BATCH = 20;
+
+    private GreenMail greenMail;
+    private JavaMailSenderImpl mailSender;
+    private SmtpTransportPool pool;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+
+        greenMail = new GreenMail(ServerSetupTest.SMTP.dynamicPort());
+        greenMail.setUser("mailer@example.com", "mailer", "secret");
+        greenMail.start();
+
+        mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("127.0.0.1");
+        mailSender.setPort(greenMail.getSmtp().getPort());
+        mailSender.setUsername("mailer");
+        mailSender.setPassword("secret");
+        mailSender.getJavaMailProperties().put("mail.smtp.auth", "true");
+        // Fixed EHLO name, so no local hostname lookup per connect
+        mailSender.getJavaMailProperties().put("mail.smtp.localhost", "localhost");
+
+        pool = new SmtpTransportPool(mailSender, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(pool, "maxSize", 4);
+        ReflectionTestUtils.setField(pool, "idleTimeoutMs", 30_000L);
+        ReflectionTestUtils.setField(pool, "maxMessagesPerConnection", 100);
+        ReflectionTestUtils.setField(pool, "borrowTimeoutMs", 30_000L);
+        pool.init();
+    }
+
+    @TearDown(Level.Iteration)
+    public void purge() throws Exception {
+        // Received mail is kept in memory
+        greenMail.purgeEmailFromAllMailboxes();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ReflectionTestUtils.invokeMethod(pool, "shutdown");
+        greenMail.stop();
+    }
+
+    @Benchmark
+    public void connectPerMessage() throws MessagingException {
+        mailSender.send(message());
+    }
+
+    @Benchmark
+    public void pooled() throws MessagingException {
+        pool.send(message());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public List<SmtpTransportPool.SendResult> pooledBatch() throws MessagingException {
+        List<MimeMessage> messages = new ArrayList<>(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            messages.add(message());
+        }
+        return pool.sendAll(messages);
+    }
+
+    private MimeMessage message() throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, "UTF-8");
+        helper.setFrom("noreply@example.com");
+        helper.setTo("user@example.com");
+        helper.setSubject("Verify your email");
+        helper.setText("<p>Click the link to verify your account.</p>", true);
+        return message;
+    }
+}
@@ -0,0 +1,106 @@
+package com.resume.builder.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.Address;
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class SmtpTransportPoolTest {
+
+    private JavaMailSenderImpl mailSender;
+    private Session session;
+    private SmtpTransportPool pool;
+
+    @BeforeEach
+    void setUp() {
+        mailSender = mock(JavaMailSenderImpl.class);
+        session = mock(Session.class);
+        when(mailSender.getProtocol()).thenReturn("smtp");
+        when(mailSender.getSession()).thenReturn(session);
+        when(mailSender.getHost()).thenReturn("localhost");
+        when(mailSender.getPort()).thenReturn(25);
+
+        pool = new SmtpTransportPool(mailSender, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(pool, "maxSize", 1);
+        ReflectionTestUtils.setField(pool, "idleTimeoutMs", 30_000L);
+        ReflectionTestUtils.setField(pool, "maxMessagesPerConnection", 100);
+        ReflectionTestUtils.setField(pool, "borrowTimeoutMs", 1_000L);
+        pool.init();
+    }
+
+    @Test
+    void failedReconnectMidBatchOnlyFailsUnsentMessages() throws Exception {
+
+        MimeMessage first = message("a@example.com");
+        MimeMessage second = message("b@example.com");
+        MimeMessage third = message("c@example.com");
+
+        // First connection sends one message, then drops
+        Transport working = mock(Transport.class);
+        doThrow(new MessagingException("connection reset"))
+                .when(working).sendMessage(eq(second), any(Address[].class));
+
+        // Every reconnect after that fails
+        Transport unreachable = mock(Transport.class);
+        doThrow(new MessagingException("connect refused"))
+                .when(unreachable).connect(anyString(), anyInt(), any(), any());
+
+        when(session.getTransport("smtp")).thenReturn(working, unreachable);
+
+        List<SmtpTransportPool.SendResult> results = pool.sendAll(List.of(first, second, third));
+
+        assertThat(results).hasSize(3);
+        assertThat(results.get(0).isSent()).isTrue();
+        assertThat(results.get(1).isSent()).isFalse();
+        assertThat(results.get(2).isSent()).isFalse();
+        assertThat(results).extracting(SmtpTransportPool.SendResult::message)
+                .containsExactly(first, second, third);
+        verify(working, times(1)).sendMessage(eq(first), any(Address[].class));
+    }
+
+    @Test
+    void failedRetryClosesTheFreshConnection() throws Exception {
+
+        MimeMessage first = message("a@example.com");
+        MimeMessage second = message("b@example.com");
+
+        Transport stale = mock(Transport.class);
+        doThrow(new MessagingException("connection reset"))
+                .when(stale).sendMessage(eq(second), any(Address[].class));
+
+        Transport fresh = mock(Transport.class);
+        doThrow(new MessagingException("rejected"))
+                .when(fresh).sendMessage(eq(second), any(Address[].class));
+
+        when(session.getTransport("smtp")).thenReturn(stale, fresh);
+
+        List<SmtpTransportPool.SendResult> results = pool.sendAll(List.of(first, second));
+
+        assertThat(results.get(0).isSent()).isTrue();
+        assertThat(results.get(1).isSent()).isFalse();
+        verify(fresh).close();
+    }
+
+    private static MimeMessage message(String to) throws MessagingException {
+        MimeMessage message = new MimeMessage(Session.getInstance(new Properties()));
+        message.setRecipient(Message.RecipientType.TO, new InternetAddress(to));
+        message.setSubject("Test");
+        message.setText("Body");
+        return message;
+    }
+}
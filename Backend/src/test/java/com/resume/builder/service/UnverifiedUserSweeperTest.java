@@ -0,0 +1,123 @@
+package com.resume.builder.service;
+
+import com.mongodb.client.result.DeleteResult;
+import com.resume.builder.document.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class UnverifiedUserSweeperTest {
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // Stands in for the users collection
+    private final Map<String, User> users = new LinkedHashMap<>();
+
+    // Recorded per call: the sweeper reuses its id list between batches
+    private final List<Integer> batchSizes = new ArrayList<>();
+
+    private UnverifiedUserSweeper sweeper;
+
+    @BeforeEach
+    void setUp() {
+        sweeper = new UnverifiedUserSweeper(mongoTemplate, meterRegistry);
+        ReflectionTestUtils.setField(sweeper, "graceHours", 168L);
+        ReflectionTestUtils.setField(sweeper, "batchSize", 2);
+        ReflectionTestUtils.setField(sweeper, "maxBatchesPerRun", 20);
+        ReflectionTestUtils.invokeMethod(sweeper, "init");
+
+        for (int i = 1; i <= 5; i++) {
+            users.put("user-" + i, User.builder()
+                    .id("user-" + i)
+                    .emailVerified(false)
+                    .verificationExpires(LocalDateTime.now().minusDays(30))
+                    .build());
+        }
+
+        // The scan snapshot is taken before any delete runs
+        when(mongoTemplate.stream(any(Query.class), eq(User.class)))
+                .thenAnswer(invocation -> List.copyOf(users.values()).stream());
+        when(mongoTemplate.remove(any(Query.class), eq(User.class)))
+                .thenAnswer(invocation -> remove(invocation.getArgument(0)));
+    }
+
+    @Test
+    void expiredUnverifiedUsersAreDeletedInBatches() {
+
+        sweeper.sweep();
+
+        assertThat(batchSizes).containsExactly(2, 2, 1);
+
+        assertThat(users).isEmpty();
+        assertThat(meterRegistry.get("user.sweeper.deleted").counter().count()).isEqualTo(5);
+    }
+
+    @Test
+    void runStopsAfterMaxBatches() {
+
+        ReflectionTestUtils.setField(sweeper, "maxBatchesPerRun", 1);
+
+        sweeper.sweep();
+
+        assertThat(batchSizes).containsExactly(2);
+        assertThat(users).containsOnlyKeys("user-3", "user-4", "user-5");
+    }
+
+    @Test
+    void userWhoVerifiesBetweenScanAndDeleteIsKept() {
+
+        // Verifies after the stream was read, before the batch delete
+        when(mongoTemplate.stream(any(Query.class), eq(User.class))).thenAnswer(invocation -> {
+            List<User> snapshot = List.copyOf(users.values());
+            users.get("user-2").setEmailVerified(true);
+            return snapshot.stream();
+        });
+
+        sweeper.sweep();
+
+        assertThat(users).containsOnlyKeys("user-2");
+        assertThat(meterRegistry.get("user.sweeper.deleted").counter().count()).isEqualTo(4);
+    }
+
+    /**
+     * Applies the delete filter ({_id: {$in}}, emailVerified) to the map.
+     */
+    private DeleteResult remove(Query query) {
+
+        Document filter = query.getQueryObject();
+        Collection<?> ids = ids(query);
+        batchSizes.add(ids.size());
+        Object emailVerified = filter.get("emailVerified");
+
+        long removed = 0;
+        for (Object id : ids) {
+            User user = users.get((String) id);
+            if (user != null && (emailVerified == null || emailVerified.equals(user.isEmailVerified()))) {
+                users.remove(id);
+                removed++;
+            }
+        }
+        return DeleteResult.acknowledged(removed);
+    }
+
+    private static Collection<?> ids(Query query) {
+        return (Collection<?>) query.getQueryObject().get("_id", Document.class).get("$in");
+    }
+}
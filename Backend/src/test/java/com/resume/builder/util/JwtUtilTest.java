@@ -0,0 +1,109 @@
+package com.resume.builder.util;
+
+import com.resume.builder.security.TokenRevocationList;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+class JwtUtilTest {
+
+    private static final String SECRET = "test-secret-that-is-at-least-32-bytes-long!";
+
+    private TokenRevocationList revocationList;
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        revocationList = mock(TokenRevocationList.class);
+        jwtUtil = jwtUtil(60_000);
+    }
+
+    @Test
+    void verifiedTokenIsServedFromTheCache() {
+
+        String token = jwtUtil.generateToken("user-1", "session-1");
+
+        Claims first = jwtUtil.verifyAndParse(token);
+        Claims second = jwtUtil.verifyAndParse(token);
+
+        assertThat(first.getSubject()).isEqualTo("user-1");
+        assertThat(first.get(JwtUtil.SESSION_CLAIM, String.class)).isEqualTo("session-1");
+        // Same instance → the signature was not verified a second time
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void revocationIsCheckedEvenForCachedTokens() {
+
+        String token = jwtUtil.generateToken("user-1", "session-1");
+        jwtUtil.verifyAndParse(token);
+
+        when(revocationList.isRevoked("session-1")).thenReturn(true);
+
+        assertThatThrownBy(() -> jwtUtil.verifyAndParse(token))
+                .isInstanceOf(JwtException.class)
+                .hasMessageContaining("revoked");
+    }
+
+    @Test
+    void cachedTokenIsRejectedOnceItExpires() throws Exception {
+
+        // exp has second precision, so allow at least one full second before it passes
+        JwtUtil shortLived = jwtUtil(2_000);
+        String token = shortLived.generateToken("user-1", "session-1");
+        shortLived.verifyAndParse(token);
+
+        Thread.sleep(2_100);
+
+        assertThatThrownBy(() -> shortLived.verifyAndParse(token))
+                .isInstanceOf(ExpiredJwtException.class);
+        assertThat(shortLived.validateToken(token)).isFalse();
+    }
+
+    @Test
+    void tamperedTokenIsRejected() {
+
+        String token = jwtUtil.generateToken("user-1", "session-1");
+        String tampered = token.substring(0, token.length() - 2)
+                + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThat(jwtUtil.validateToken(tampered)).isFalse();
+    }
+
+    @Test
+    void tokenWithoutSessionIsRejected() {
+
+        // Signed with the right key, but no sid claim to revoke it by
+        String token = Jwts.builder()
+                .setSubject("user-1")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()), SignatureAlgorithm.HS256)
+                .compact();
+
+        assertThatThrownBy(() -> jwtUtil.verifyAndParse(token))
+                .isInstanceOf(JwtException.class)
+                .hasMessageContaining("session");
+        assertThat(jwtUtil.validateToken(token)).isFalse();
+    }
+
+    private JwtUtil jwtUtil(long expirationMs) {
+        JwtUtil util = new JwtUtil(revocationList);
+        ReflectionTestUtils.setField(util, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(util, "jwtExpiration", expirationMs);
+        ReflectionTestUtils.setField(util, "cacheMaxSize", 16);
+        util.init();
+        return util;
+    }
+}
@@ -0,0 +1,84 @@
+package com.resume.builder.util;
+
+import com.resume.builder.repository.RevokedSessionRepository;
+import com.resume.builder.security.TokenRevocationList;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Per-request cost of authenticating a bearer token.
+ * legacy: what JwtAuthenticationFilter used to do (getUserIdFromToken,
+ * validateToken and isTokenExpired, each deriving the key and building a
+ * parser); parseOnce: one verify with the prebuilt parser (cache miss);
+ * cached: verifyAndParse of a recently verified token.
+ *
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark=JwtVerify
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtVerifyBenchmark {
+
+    private static final String SECRET = "benchmark-secret-that-is-at-least-32-bytes-long!";
+
+    private JwtUtil cached;
+    private JwtUtil uncached;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        cached = jwtUtil(1024);
+        // Cache of size 0: every call verifies the signature
+        uncached = jwtUtil(0);
+        token = cached.generateToken("65f0c0ffee00000000000001", "session-1");
+    }
+
+    @Benchmark
+    public void legacy(Blackhole blackhole) {
+        for (int i = 0; i < 3; i++) {
+            blackhole.consume(Jwts.parserBuilder()
+                    .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                    .build()
+                    .parseClaimsJws(token)
+                    .getBody());
+        }
+    }
+
+    @Benchmark
+    public Claims parseOnce() {
+        return uncached.verifyAndParse(token);
+    }
+
+    @Benchmark
+    public Claims cached() {
+        return cached.verifyAndParse(token);
+    }
+
+    private static JwtUtil jwtUtil(int cacheMaxSize) {
+        // Real revocation list (Bloom filter on the hot path) over an empty store
+        TokenRevocationList revocationList = new TokenRevocationList(
+                mock(RevokedSessionRepository.class), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(revocationList, "accessTokenTtlMs", 3_600_000L);
+        ReflectionTestUtils.setField(revocationList, "expectedEntries", 100_000);
+        ReflectionTestUtils.invokeMethod(revocationList, "init");
+
+        JwtUtil jwtUtil = new JwtUtil(revocationList);
+        ReflectionTestUtils.setField(jwtUtil, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "jwtExpiration", 3_600_000L);
+        ReflectionTestUtils.setField(jwtUtil, "cacheMaxSize", cacheMaxSize);
+        ReflectionTestUtils.invokeMethod(jwtUtil, "init");
+        return jwtUtil;
+    }
+}
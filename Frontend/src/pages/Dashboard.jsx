@@ -10,6 +10,8 @@ const Dashboard = () => {
   const navigate = useNavigate();
   const [user, setUser] = useState(null);
   const [resumes, setResumes] = useState([]);
+  const [nextCursor, setNextCursor] = useState(null);
+  const [loadingMore, setLoadingMore] = useState(false);
   const [loading, setLoading] = useState(true);
   const [showNewResumeModal, setShowNewResumeModal] = useState(false);
   const [newResumeTitle, setNewResumeTitle] = useState('');
@@ -127,7 +129,8 @@ const Dashboard = () => {
   const fetchResumes = async () => {
     try {
       const response = await resumeAPI.getUserResumes();
-      setResumes(response.data);
+      setResumes(response.data.resumes);
+      setNextCursor(response.data.nextCursor);
     } catch (err) {
       console.error('Failed to fetch resumes', err);
     } finally {
@@ -135,6 +138,19 @@ const Dashboard = () => {
     }
   };
 
+  const loadMoreResumes = async () => {
+    setLoadingMore(true);
+    try {
+      const response = await resumeAPI.getUserResumes(nextCursor);
+      setResumes((current) => [...current, ...response.data.resumes]);
+      setNextCursor(response.data.nextCursor);
+    } catch (err) {
+      console.error('Failed to fetch more resumes', err);
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
   const openCreateResumeModal = (template = 'Classic Blue') => {
     setSelectedTemplate(template);
     setShowNewResumeModal(true);
@@ -199,7 +215,13 @@ const Dashboard = () => {
   };
 
   const handleLogout = () => {
+    const refreshToken = localStorage.getItem('refreshToken');
+    if (refreshToken) {
+      // Revoke the session server-side; local logout doesn't wait for it
+      authAPI.logout(refreshToken).catch(() => {});
+    }
     localStorage.removeItem('token');
+    localStorage.removeItem('refreshToken');
     localStorage.removeItem('user');
     navigate('/login');
   };
@@ -441,6 +463,17 @@ const Dashboard = () => {
                   ))}
                 </div>
               )}
+              {nextCursor && (
+                <div className="text-center mt-6">
+                  <button
+                    onClick={loadMoreResumes}
+                    disabled={loadingMore}
+                    className="btn-secondary"
+                  >
+                    {loadingMore ? 'Loading...' : 'Load more'}
+                  </button>
+                </div>
+              )}
             </div>
           </>
         )}
@@ -29,6 +29,7 @@ const LoginPage = () => {
       
       // Store token and user data
       localStorage.setItem('token', response.data.token);
+      localStorage.setItem('refreshToken', response.data.refreshToken);
       localStorage.setItem('user', JSON.stringify(response.data.user));
 
       // Redirect to dashboard
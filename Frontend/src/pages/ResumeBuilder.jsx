@@ -74,7 +74,9 @@ const ResumeBuilder = () => {
       setTimeout(() => setShowSuccessModal(false), 3000);
     } catch (err) {
       console.error('Failed to save resume', err);
-      setErrorMessage('Failed to save resume. Please try again.');
+      setErrorMessage(err.response?.status === 412
+        ? 'This resume was changed elsewhere. Reload the page to get the latest version.'
+        : 'Failed to save resume. Please try again.');
       setShowErrorModal(true);
       setTimeout(() => setShowErrorModal(false), 3000);
     } finally {
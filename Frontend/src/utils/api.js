@@ -28,15 +28,52 @@ api.interceptors.request.use(
   }
 );
 
+// Single in-flight refresh shared by all requests that hit a 401
+let refreshPromise = null;
+
+const refreshAccessToken = () => {
+  if (!refreshPromise) {
+    const refreshToken = localStorage.getItem('refreshToken');
+    refreshPromise = (refreshToken
+      ? axios.post(`${api.defaults.baseURL}/auth/refresh`, { refreshToken })
+      : Promise.reject(new Error('No refresh token'))
+    )
+      .then((response) => {
+        localStorage.setItem('token', response.data.token);
+        localStorage.setItem('refreshToken', response.data.refreshToken);
+        return response.data.token;
+      })
+      .finally(() => {
+        refreshPromise = null;
+      });
+  }
+  return refreshPromise;
+};
+
 // Response interceptor to handle errors globally
 api.interceptors.response.use(
   (response) => {
     return response;
   },
-  (error) => {
+  async (error) => {
+    const originalRequest = error.config;
+
+    if (error.response?.status === 401 && originalRequest && !originalRequest._retry) {
+      // Access token expired - try once with a refreshed token
+      originalRequest._retry = true;
+      try {
+        const token = await refreshAccessToken();
+        originalRequest.headers.Authorization = `Bearer ${token}`;
+        return api(originalRequest);
+      } catch {
+        // Refresh failed - fall through to logout
+      }
+    }
+
     if (error.response?.status === 401) {
       // Unauthorized - clear token and redirect to login
       localStorage.removeItem('token');
+      localStorage.removeItem('refreshToken');
       localStorage.removeItem('user');
       window.location.href = '/login';
     }
@@ -48,6 +85,7 @@ api.interceptors.response.use(
 export const authAPI = {
   register: (data) => api.post('/auth/register', data),
   login: (data) => api.post('/auth/login', data),
+  logout: (refreshToken) => api.post('/auth/logout', { refreshToken }),
   verifyEmail: (token) => api.get(`/auth/verify-email?token=${token}`),
   uploadImage: (formData) => api.post('/auth/upload-image', formData),
   getProfile: () => api.get('/auth/profile'),
@@ -58,10 +96,25 @@ export const authAPI = {
 // Resume API calls
 export const resumeAPI = {
   createResume: (data) => api.post('/resumes', data),
-  getUserResumes: () => api.get('/resumes'),
+  // Paged summaries: { resumes, nextCursor }
+  getUserResumes: (cursor) => api.get('/resumes', { params: cursor ? { cursor } : {} }),
+  // Ranked summaries matching the text query
+  searchResumes: (q) => api.get('/resumes/search', { params: { q } }),
   getResumeById: (id) => api.get(`/resumes/${id}`),
-  updateResume: (id, data) => api.put(`/resumes/${id}`, data),
+  // If-Match makes the server reject saves based on an outdated copy (412)
+  updateResume: (id, data) => api.put(`/resumes/${id}`, data, data?.version != null
+    ? { headers: { 'If-Match': `"${data.version}"` } }
+    : undefined),
+  patchResume: (id, patch) => api.patch(`/resumes/${id}`, patch, {
+    headers: { 'Content-Type': 'application/merge-patch+json' },
+  }),
+  // Buffered server-side; no ETag/version is returned
+  autosaveResume: (id, data) => api.put(`/resumes/${id}/autosave`, data),
   deleteResume: (id) => api.delete(`/resumes/${id}`),
+  // File is streamed as-is; .ndjson files are sent as NDJSON, anything else as a JSON array
+  importResumes: (file) => api.post('/resumes/import', file, {
+    headers: { 'Content-Type': file.name?.endsWith('.ndjson') ? 'application/x-ndjson' : 'application/json' },
+  }),
   uploadImages: (id, formData) => api.put(`/resumes/${id}/upload-images`, formData),
 };
 